@@ -0,0 +1,7 @@
+package com.raffasdev.neocustomers.application.exception;
+
+public class BulkCopyUnavailableException extends RuntimeException {
+    public BulkCopyUnavailableException(String message) {
+        super(message);
+    }
+}
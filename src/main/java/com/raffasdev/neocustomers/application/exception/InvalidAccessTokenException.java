@@ -0,0 +1,7 @@
+package com.raffasdev.neocustomers.application.exception;
+
+public class InvalidAccessTokenException extends RuntimeException {
+    public InvalidAccessTokenException() {
+        super("Access token is invalid, expired or revoked");
+    }
+}
@@ -0,0 +1,15 @@
+package com.raffasdev.neocustomers.application.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(long retryAfterSeconds) {
+        super("Too many authentication requests, try again in " + retryAfterSeconds + " second(s)");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.raffasdev.neocustomers.application.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long limit;
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long limit, long retryAfterSeconds) {
+        super("Rate limit exceeded, try again in " + retryAfterSeconds + " second(s)");
+        this.limit = limit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
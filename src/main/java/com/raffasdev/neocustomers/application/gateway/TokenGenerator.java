@@ -1,10 +1,10 @@
 package com.raffasdev.neocustomers.application.gateway;
 
-import java.util.List;
+import com.raffasdev.neocustomers.domain.model.user.User;
 
 public interface TokenGenerator {
 
-    String generateToken(String email);
+    String generateToken(User user);
 
     String validateToken(String token);
 }
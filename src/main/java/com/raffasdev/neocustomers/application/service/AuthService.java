@@ -1,21 +1,30 @@
 package com.raffasdev.neocustomers.application.service;
 
 import com.raffasdev.neocustomers.application.exception.EmailAlreadyExistsException;
+import com.raffasdev.neocustomers.application.exception.InvalidAccessTokenException;
+import com.raffasdev.neocustomers.application.exception.InvalidRefreshTokenException;
+import com.raffasdev.neocustomers.application.exception.PasswordHashingUnavailableException;
 import com.raffasdev.neocustomers.application.exception.UserNotFoundException;
 import com.raffasdev.neocustomers.application.exception.WrongCredentialsException;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.domain.model.user.AuthTokens;
 import com.raffasdev.neocustomers.domain.model.user.IAuthService;
+import com.raffasdev.neocustomers.domain.model.user.IRefreshTokenRepository;
 import com.raffasdev.neocustomers.domain.model.user.User;
 import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.UserRepository;
+import com.raffasdev.neocustomers.infrastructure.security.PrincipalCache;
+import com.raffasdev.neocustomers.infrastructure.security.RefreshTokenService;
+import com.raffasdev.neocustomers.infrastructure.security.TokenRevocationList;
 import com.raffasdev.neocustomers.infrastructure.security.TokenService;
+import com.raffasdev.neocustomers.infrastructure.security.VerifiedToken;
 import lombok.AllArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Set;
 
 @Service
@@ -25,10 +34,13 @@ public class AuthService implements IAuthService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final IRefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
 
-    @Transactional
     @Override
-    public String loginUser(String email, String password) {
+    public AuthTokens loginUser(String email, String password) {
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email));
@@ -37,10 +49,63 @@ public class AuthService implements IAuthService {
             throw new WrongCredentialsException();
         }
 
-        return tokenService.generateToken(user.getEmail());
+        this.rehashIfNeeded(user, password);
+
+        refreshTokenRepository.deleteExpiredByUserId(user.getId(), Instant.now());
+
+        return this.issueTokens(user);
+    }
+
+    @Override
+    public AuthTokens refreshTokens(String refreshToken) {
+
+        String tokenHash = refreshTokenService.hash(refreshToken);
+
+        User user = refreshTokenRepository.findUserByActiveTokenHash(tokenHash, Instant.now())
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        if (!refreshTokenRepository.deleteByTokenHash(tokenHash)) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        return this.issueTokens(user);
+    }
+
+    @Override
+    public void logoutUser(String accessToken, String refreshToken) {
+
+        VerifiedToken verifiedToken = tokenService.verify(accessToken);
+
+        if (verifiedToken != null && verifiedToken.tokenId() != null) {
+            tokenRevocationList.revoke(verifiedToken.tokenId(), verifiedToken.expiresAt());
+        }
+
+        if (refreshToken != null) {
+            refreshTokenRepository.deleteByTokenHash(refreshTokenService.hash(refreshToken));
+        }
+    }
+
+    @Override
+    public void logoutAllSessions(String accessToken) {
+
+        VerifiedToken verifiedToken = tokenService.verify(accessToken);
+
+        if (verifiedToken == null
+                || tokenRevocationList.isRevoked(verifiedToken.tokenId())
+                || tokenRevocationList.isRevoked(verifiedToken.versionId())) {
+            throw new InvalidAccessTokenException();
+        }
+
+        User user = this.incrementTokenVersion(verifiedToken.subject());
+
+        tokenRevocationList.revoke(
+                VerifiedToken.versionId(user.getEmail(), user.getTokenVersion()),
+                tokenService.maxExpiresAt()
+        );
+        refreshTokenRepository.deleteByUserId(user.getId());
+        principalCache.invalidate(user.getEmail());
     }
 
-    @Transactional
     @Override
     public User registerUser(String username, String email, Set<Role> roles, String password) {
         if (userRepository.existsByEmail(email)) {
@@ -59,7 +124,48 @@ public class AuthService implements IAuthService {
                 encodedPassword
         );
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        principalCache.invalidate(savedUser.getEmail());
+
+        return savedUser;
+    }
+
+    private User incrementTokenVersion(String email) {
+
+        User user;
+        do {
+            user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UserNotFoundException(email));
+        } while (!userRepository.incrementTokenVersion(user.getId(), user.getTokenVersion()));
+
+        return user;
+    }
+
+    private void rehashIfNeeded(User user, String password) {
+
+        if (!passwordEncoder.upgradeEncoding(user.getEncodedPassword())) {
+            return;
+        }
+
+        try {
+            userRepository.updatePassword(user.getId(), passwordEncoder.encode(password));
+            principalCache.invalidate(user.getEmail());
+        } catch (PasswordHashingUnavailableException e) {
+            // keep the current hash, the next login will try again
+        }
+    }
+
+    private AuthTokens issueTokens(User user) {
+
+        String refreshToken = refreshTokenService.generateToken();
+
+        refreshTokenRepository.save(
+                refreshTokenService.hash(refreshToken),
+                user.getId(),
+                refreshTokenService.expiresAt(Instant.now())
+        );
+
+        return new AuthTokens(tokenService.generateToken(user), refreshToken);
     }
 
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.raffasdev.neocustomers.application.service;
 
-import com.raffasdev.neocustomers.application.exception.CPFAlreadyExistsException;
 import com.raffasdev.neocustomers.application.exception.CustomerNotFoundException;
-import com.raffasdev.neocustomers.application.exception.EmailAlreadyExistsException;
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerCount;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.domain.model.customer.ICustomerApplicationService;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
@@ -11,14 +11,20 @@ import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameIndex;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.UUID;
 
 @Service
@@ -27,18 +33,12 @@ public class CustomerApplicationService implements ICustomerApplicationService {
 
     private final CustomerRepository customerRepository;
 
+    private final CustomerNameIndex customerNameIndex;
+
     @Transactional
     @Override
     public Customer save(String name, String email, String cpf, String phone, LocalDate birthDate) {
 
-        if (customerRepository.existsByEmail(email)) {
-            throw new EmailAlreadyExistsException(email);
-        }
-
-        if (customerRepository.existsByCpf(cpf)) {
-            throw new CPFAlreadyExistsException(cpf);
-        }
-
         Customer customer = Customer.create(
                 EntityId.newId(),
                 Name.newName(name),
@@ -48,19 +48,57 @@ public class CustomerApplicationService implements ICustomerApplicationService {
                 BirthDate.newBirthDate(birthDate)
         );
 
-        return customerRepository.save(customer);
+        Customer savedCustomer = customerRepository.save(customer);
+        customerNameIndex.put(customer.getId().getValue(), customer.getName());
+
+        return savedCustomer;
+    }
+
+    @Override
+    public Page<CustomerSummary> findAllSummaries(Pageable pageable) {
+
+        return customerRepository.findAllSummaries(pageable);
     }
 
     @Override
-    public Page<Customer> findAll(Pageable pageable) {
+    public Page<CustomerSummary> searchSummariesByName(String name, Pageable pageable) {
 
-        return customerRepository.findAll(pageable);
+        return customerRepository.searchSummariesByName(name, pageable);
     }
 
     @Override
-    public Page<Customer> searchByName(String name, Pageable pageable) {
+    public CustomerSummary findSummaryById(UUID id) {
 
-        return customerRepository.searchByName(name, pageable);
+        return customerRepository.findSummaryById(id)
+                .orElseThrow(() -> new CustomerNotFoundException(id));
+    }
+
+    @Override
+    public Slice<CustomerSummary> findAllSummariesSlice(Pageable pageable) {
+
+        return customerRepository.findAllSummariesSlice(pageable);
+    }
+
+    @Override
+    public Slice<CustomerSummary> searchSummariesSliceByName(String name, Pageable pageable) {
+
+        return customerRepository.searchSummariesSliceByName(name, pageable);
+    }
+
+    @Override
+    public CustomerCount count(String name, boolean approximate) {
+
+        if (name != null && !name.isBlank()) {
+            return customerRepository.countByName(name, approximate);
+        }
+
+        return customerRepository.countAll(approximate);
+    }
+
+    @Override
+    public Window<CustomerSummary> scrollSummaries(String name, ScrollPosition position, Sort sort, int limit) {
+
+        return customerRepository.scrollSummaries(name, position, sort, limit);
     }
 
     @Override
@@ -74,43 +112,47 @@ public class CustomerApplicationService implements ICustomerApplicationService {
     @Override
     public void updateById(UUID id, String name, String email, String phone, LocalDate birthDate) {
 
-        Customer currentCustomer = this.findById(id);
+        Name nameToUpdate = (name != null && !name.isBlank()) ? Name.newName(name) : null;
 
-        Name nameToUpdate = (name != null && !name.isBlank()) ? Name.newName(name) :
-                Name.newName(currentCustomer.getName());
+        Email emailToUpdate = (email != null && !email.isBlank()) ? Email.newEmail(email) : null;
 
-        Phone phoneToUpdate = (phone != null && !phone.isBlank()) ?
-                Phone.newPhone(phone) : Phone.newPhone(currentCustomer.getPhone());
+        Phone phoneToUpdate = (phone != null && !phone.isBlank()) ? Phone.newPhone(phone) : null;
 
-        BirthDate birthDateToUpdate = (birthDate != null) ?
-                BirthDate.newBirthDate(birthDate) : BirthDate.newBirthDate(currentCustomer.getBirthDate());
+        BirthDate birthDateToUpdate = (birthDate != null) ? BirthDate.newBirthDate(birthDate) : null;
 
-        Email emailToUpdate = Email.newEmail(currentCustomer.getEmail());
-        if (email != null && !email.isBlank() && !currentCustomer.getEmail().equals(email)) {
+        boolean hasChanges = nameToUpdate != null || emailToUpdate != null
+                || phoneToUpdate != null || birthDateToUpdate != null;
 
-            if (customerRepository.existsByEmail(email)) {
-                throw new EmailAlreadyExistsException(email);
-            }
+        boolean found = hasChanges
+                ? customerRepository.updateById(id, nameToUpdate, emailToUpdate, phoneToUpdate, birthDateToUpdate) > 0
+                : customerRepository.existsById(id);
 
-            emailToUpdate = Email.newEmail(email);
+        if (!found) {
+            throw new CustomerNotFoundException(id);
         }
 
+        if (nameToUpdate != null) {
+            customerNameIndex.put(id, nameToUpdate.getValue());
+        }
+    }
 
-        Customer customerUpdated = Customer.reconstitute(
-                currentCustomer.getId(),
-                nameToUpdate,
-                emailToUpdate,
-                CPF.newCPF(currentCustomer.getCPF()),
-                phoneToUpdate,
-                birthDateToUpdate
-        );
+    @Override
+    public void deleteById(UUID id) {
 
-        customerRepository.save(customerUpdated);
+        if (customerRepository.deleteById(id) == 0) {
+            throw new CustomerNotFoundException(id);
+        }
+
+        customerNameIndex.remove(id);
     }
 
+    @Transactional
     @Override
-    public void deleteById(UUID id) {
+    public int deleteAllById(Collection<UUID> ids) {
+
+        int deleted = customerRepository.deleteAllById(ids);
+        customerNameIndex.removeAll(ids);
 
-        customerRepository.deleteById(id);
+        return deleted;
     }
 }
@@ -0,0 +1,41 @@
+package com.raffasdev.neocustomers.application.service;
+
+import com.raffasdev.neocustomers.domain.model.customer.CustomerLoadResult;
+import com.raffasdev.neocustomers.domain.model.customer.ICustomerBulkCopyService;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerCopyRepository;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameIndex;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+@Service
+@AllArgsConstructor
+public class CustomerBulkCopyService implements ICustomerBulkCopyService {
+
+    private final CustomerCopyRepository customerCopyRepository;
+
+    private final CustomerNameIndex customerNameIndex;
+
+    @Override
+    public boolean isAvailable() {
+
+        return customerCopyRepository.isAvailable();
+    }
+
+    @Override
+    public CustomerLoadResult load(InputStream csv) {
+
+        CustomerLoadResult result = customerCopyRepository.load(csv);
+        customerNameIndex.rebuildAsync();
+
+        return result;
+    }
+
+    @Override
+    public long export(OutputStream csv) {
+
+        return customerCopyRepository.export(csv);
+    }
+}
@@ -0,0 +1,141 @@
+package com.raffasdev.neocustomers.application.service;
+
+import com.raffasdev.neocustomers.domain.exception.InvalidBirthDateException;
+import com.raffasdev.neocustomers.domain.exception.InvalidCPFException;
+import com.raffasdev.neocustomers.domain.exception.InvalidEmailException;
+import com.raffasdev.neocustomers.domain.exception.InvalidNameException;
+import com.raffasdev.neocustomers.domain.exception.InvalidPhoneException;
+import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportResult;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportRow;
+import com.raffasdev.neocustomers.domain.model.customer.ICustomerImportService;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerBatchWriter;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Service
+public class CustomerImportService implements ICustomerImportService {
+
+    private final CustomerBatchWriter customerBatchWriter;
+
+    private final CustomerNameIndex customerNameIndex;
+
+    private final TransactionTemplate batchTransaction;
+
+    private final int batchSize;
+
+    public CustomerImportService(CustomerBatchWriter customerBatchWriter,
+                                 CustomerNameIndex customerNameIndex,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${customers.import.batch-size:500}") int batchSize) {
+        this.customerBatchWriter = customerBatchWriter;
+        this.customerNameIndex = customerNameIndex;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @Override
+    public void importCustomers(Iterator<CustomerImportRow> rows, Consumer<List<CustomerImportResult>> batchResults) {
+
+        List<CustomerImportRow> batch = new ArrayList<>(batchSize);
+
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+
+            if (batch.size() == batchSize) {
+                batchResults.accept(this.importBatch(batch));
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batchResults.accept(this.importBatch(batch));
+        }
+    }
+
+    private List<CustomerImportResult> importBatch(List<CustomerImportRow> batch) {
+
+        List<ValidatedRow> validated = batch.parallelStream()
+                .map(CustomerImportService::validate)
+                .toList();
+
+        List<Customer> customers = validated.stream()
+                .map(ValidatedRow::customer)
+                .filter(Objects::nonNull)
+                .toList();
+
+        int[] inserted = customers.isEmpty() ? new int[0] : batchTransaction.execute(status -> {
+            int[] counts = customerBatchWriter.insertAll(customers);
+
+            Map<UUID, String> namesById = new HashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    namesById.put(customers.get(i).getId().getValue(), customers.get(i).getName());
+                }
+            }
+            customerNameIndex.putAll(namesById);
+
+            return counts;
+        });
+
+        List<CustomerImportResult> results = new ArrayList<>(validated.size());
+        int next = 0;
+        for (ValidatedRow row : validated) {
+            if (row.customer() == null) {
+                results.add(CustomerImportResult.invalid(row.line(), row.error()));
+            } else if (inserted[next++] != 0) {
+                results.add(CustomerImportResult.created(row.line(), row.customer().getId().getValue()));
+            } else {
+                results.add(CustomerImportResult.duplicate(row.line()));
+            }
+        }
+
+        return results;
+    }
+
+    private static ValidatedRow validate(CustomerImportRow row) {
+
+        if (row.error() != null) {
+            return new ValidatedRow(row.line(), null, row.error());
+        }
+
+        try {
+            Customer customer = Customer.create(
+                    EntityId.newId(),
+                    Name.newName(row.name()),
+                    Email.newEmail(row.email()),
+                    CPF.newCPF(row.cpf()),
+                    Phone.newPhone(row.phone()),
+                    BirthDate.newBirthDate(row.birthDate() != null ? LocalDate.parse(row.birthDate().trim()) : null)
+            );
+
+            return new ValidatedRow(row.line(), customer, null);
+        } catch (InvalidNameException | InvalidEmailException | InvalidCPFException | InvalidPhoneException
+                 | InvalidBirthDateException | DateTimeParseException e) {
+            return new ValidatedRow(row.line(), null, e.getMessage());
+        }
+    }
+
+    private record ValidatedRow(long line, Customer customer, String error) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.raffasdev.neocustomers.config;
+
+import com.raffasdev.neocustomers.infrastructure.security.ratelimit.InMemoryRateLimitStore;
+import com.raffasdev.neocustomers.infrastructure.security.ratelimit.JdbcRateLimitStore;
+import com.raffasdev.neocustomers.infrastructure.security.ratelimit.RateLimitProperties;
+import com.raffasdev.neocustomers.infrastructure.security.ratelimit.RateLimitStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitStore rateLimitStore(RateLimitProperties properties, JdbcTemplate jdbcTemplate) {
+
+        return switch (properties.store()) {
+            case MEMORY -> new InMemoryRateLimitStore(properties.maximumBuckets(), properties.idleTtl());
+            case JDBC -> new JdbcRateLimitStore(jdbcTemplate, Clock.systemUTC());
+        };
+    }
+}
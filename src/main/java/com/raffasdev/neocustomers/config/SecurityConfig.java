@@ -1,7 +1,12 @@
 package com.raffasdev.neocustomers.config;
 
+import com.raffasdev.neocustomers.infrastructure.security.BCryptCostCalibrator;
+import com.raffasdev.neocustomers.infrastructure.security.BoundedPasswordEncoder;
 import com.raffasdev.neocustomers.infrastructure.security.SecurityFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,10 +16,14 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @AllArgsConstructor
@@ -43,8 +52,29 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.pool-size:0}") int poolSize,
+                                           @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password-hashing.retry-after:1s}") Duration retryAfter,
+                                           @Value("${security.password-hashing.bcrypt.strength:0}") int strength,
+                                           @Value("${security.password-hashing.bcrypt.latency-budget:250ms}") Duration latencyBudget,
+                                           @Value("${security.password-hashing.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${security.password-hashing.bcrypt.max-strength:16}") int maxStrength,
+                                           MeterRegistry meterRegistry) {
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        int bcryptStrength = strength > 0
+                ? strength
+                : BCryptCostCalibrator.calibrate(latencyBudget, minStrength, maxStrength);
+
+        Gauge.builder("password.hashing.bcrypt.strength", () -> bcryptStrength)
+                .description("BCrypt cost factor used for new password hashes")
+                .register(meterRegistry);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, threads, queueCapacity, retryAfter, meterRegistry);
     }
 
     @Bean
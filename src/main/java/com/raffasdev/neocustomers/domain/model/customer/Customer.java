@@ -9,6 +9,7 @@ import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 public class Customer extends Entity<EntityId> {
 
@@ -35,6 +36,18 @@ public class Customer extends Entity<EntityId> {
         return new Customer(id, name, email, cpf, phone, birthDate);
     }
 
+    public static Customer reconstitute(UUID id, String name, String email, long cpf, long phone,
+                                        LocalDate birthDate) {
+        return new Customer(
+                EntityId.of(id),
+                Name.reconstitute(name),
+                Email.reconstitute(email),
+                CPF.reconstitute(cpf),
+                Phone.reconstitute(phone),
+                BirthDate.reconstitute(birthDate)
+        );
+    }
+
     public int getAge() {
 
         return this.birthDate.getAge();
@@ -66,11 +79,11 @@ public class Customer extends Entity<EntityId> {
         return this.email.getValue();
     }
 
-    public String getCPF() {
+    public long getCPF() {
         return this.cpf.getValue();
     }
 
-    public String getPhone() {
+    public long getPhone() {
         return this.phone.getValue();
     }
 
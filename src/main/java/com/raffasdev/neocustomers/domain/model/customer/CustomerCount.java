@@ -0,0 +1,14 @@
+package com.raffasdev.neocustomers.domain.model.customer;
+
+public record CustomerCount(long value, boolean approximate) {
+
+    public static CustomerCount exact(long value) {
+
+        return new CustomerCount(value, false);
+    }
+
+    public static CustomerCount approximate(long value) {
+
+        return new CustomerCount(value, true);
+    }
+}
@@ -0,0 +1,27 @@
+package com.raffasdev.neocustomers.domain.model.customer;
+
+import java.util.UUID;
+
+public record CustomerImportResult(long line, Status status, UUID id, String error) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static CustomerImportResult created(long line, UUID id) {
+
+        return new CustomerImportResult(line, Status.CREATED, id, null);
+    }
+
+    public static CustomerImportResult duplicate(long line) {
+
+        return new CustomerImportResult(line, Status.DUPLICATE, null, "Email or CPF already exists");
+    }
+
+    public static CustomerImportResult invalid(long line, String error) {
+
+        return new CustomerImportResult(line, Status.INVALID, null, error);
+    }
+}
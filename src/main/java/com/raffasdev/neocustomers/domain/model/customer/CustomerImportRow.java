@@ -0,0 +1,16 @@
+package com.raffasdev.neocustomers.domain.model.customer;
+
+public record CustomerImportRow(long line, String name, String email, String cpf, String phone, String birthDate,
+                                String error) {
+
+    public static CustomerImportRow of(long line, String name, String email, String cpf, String phone,
+                                       String birthDate) {
+
+        return new CustomerImportRow(line, name, email, cpf, phone, birthDate, null);
+    }
+
+    public static CustomerImportRow malformed(long line, String error) {
+
+        return new CustomerImportRow(line, null, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,4 @@
+package com.raffasdev.neocustomers.domain.model.customer;
+
+public record CustomerLoadResult(long copied, long merged) {
+}
@@ -0,0 +1,6 @@
+package com.raffasdev.neocustomers.domain.model.customer;
+
+import java.util.UUID;
+
+public record CustomerSummary(UUID id, String name, String email, long cpf, long phone, Integer age) {
+}
@@ -2,17 +2,32 @@ package com.raffasdev.neocustomers.domain.model.customer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.UUID;
 
 public interface ICustomerApplicationService {
 
     Customer save(String name, String email, String cpf, String phone, LocalDate birthDate);
 
-    Page<Customer> findAll(Pageable pageable);
+    Page<CustomerSummary> findAllSummaries(Pageable pageable);
 
-    Page<Customer> searchByName(String name, Pageable pageable);
+    Page<CustomerSummary> searchSummariesByName(String name, Pageable pageable);
+
+    CustomerSummary findSummaryById(UUID id);
+
+    Slice<CustomerSummary> findAllSummariesSlice(Pageable pageable);
+
+    Slice<CustomerSummary> searchSummariesSliceByName(String name, Pageable pageable);
+
+    CustomerCount count(String name, boolean approximate);
+
+    Window<CustomerSummary> scrollSummaries(String name, ScrollPosition position, Sort sort, int limit);
 
     Customer findById(UUID id);
 
@@ -20,4 +35,6 @@ public interface ICustomerApplicationService {
 
     void deleteById(UUID id);
 
+    int deleteAllById(Collection<UUID> ids);
+
 }
@@ -0,0 +1,14 @@
+package com.raffasdev.neocustomers.domain.model.customer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ICustomerBulkCopyService {
+
+    boolean isAvailable();
+
+    CustomerLoadResult load(InputStream csv);
+
+    long export(OutputStream csv);
+
+}
@@ -0,0 +1,11 @@
+package com.raffasdev.neocustomers.domain.model.customer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ICustomerImportService {
+
+    void importCustomers(Iterator<CustomerImportRow> rows, Consumer<List<CustomerImportResult>> batchResults);
+
+}
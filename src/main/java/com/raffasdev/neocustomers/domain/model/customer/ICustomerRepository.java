@@ -1,8 +1,17 @@
 package com.raffasdev.neocustomers.domain.model.customer;
 
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,15 +19,29 @@ public interface ICustomerRepository {
 
     Customer save(Customer customer);
 
-    Page<Customer> findAll(Pageable pageable);
+    int updateById(UUID id, Name name, Email email, Phone phone, BirthDate birthDate);
 
-    Page<Customer> searchByName(String name, Pageable pageable);
+    Page<CustomerSummary> findAllSummaries(Pageable pageable);
+
+    Page<CustomerSummary> searchSummariesByName(String name, Pageable pageable);
+
+    Optional<CustomerSummary> findSummaryById(UUID id);
+
+    Slice<CustomerSummary> findAllSummariesSlice(Pageable pageable);
+
+    Slice<CustomerSummary> searchSummariesSliceByName(String name, Pageable pageable);
+
+    CustomerCount countAll(boolean approximate);
+
+    CustomerCount countByName(String name, boolean approximate);
+
+    Window<CustomerSummary> scrollSummaries(String name, ScrollPosition position, Sort sort, int limit);
 
     Optional<Customer> findById(UUID id);
 
-    boolean existsByEmail(String email);
+    boolean existsById(UUID id);
 
-    boolean existsByCpf(String cpf);
+    int deleteById(UUID id);
 
-    void deleteById(UUID id);
+    int deleteAllById(Collection<UUID> ids);
 }
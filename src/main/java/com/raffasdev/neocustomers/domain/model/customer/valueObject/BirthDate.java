@@ -13,8 +13,15 @@ public class BirthDate extends ValueObject {
 
     private BirthDate(LocalDate value) {
 
+        this(value, true);
+    }
+
+    private BirthDate(LocalDate value, boolean validate) {
+
         this.birthDate = value;
-        validate();
+        if (validate) {
+            validate();
+        }
     }
 
     public static BirthDate of(LocalDate birthDate) {
@@ -27,6 +34,11 @@ public class BirthDate extends ValueObject {
         return new BirthDate(birthDate);
     }
 
+    public static BirthDate reconstitute(LocalDate birthDate) {
+
+        return new BirthDate(birthDate, false);
+    }
+
     public LocalDate getValue() {
 
         return birthDate;
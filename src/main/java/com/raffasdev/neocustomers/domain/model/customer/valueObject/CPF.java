@@ -3,36 +3,147 @@ package com.raffasdev.neocustomers.domain.model.customer.valueObject;
 import com.raffasdev.neocustomers.domain.exception.InvalidCPFException;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.ValueObject;
 
-import java.util.Objects;
-import java.util.regex.Pattern;
-
 public class CPF extends ValueObject {
 
-    private final String cpf;
+    private static final long MAX_NUMBER = 99_999_999_999L;
 
-    private static final Pattern CPF_PATTERN = Pattern.compile("^\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}$");
+    private final long cpf;
 
     public CPF(String cpf) {
+        this(parseValid(cpf), false);
+    }
+
+    private CPF(long cpf, boolean validate) {
         this.cpf = cpf;
-        validate();
+        if (validate && !hasValidCheckDigits(cpf)) {
+            throw new InvalidCPFException(String.valueOf(cpf));
+        }
     }
 
     public static CPF of(String cpf) {
         return new CPF(cpf);
     }
 
+    public static CPF of(long cpf) {
+        return new CPF(cpf, true);
+    }
+
     public static CPF newCPF(String cpf) {
         return new CPF(cpf);
     }
 
-    public String getValue() {
+    public static CPF reconstitute(long cpf) {
+        return new CPF(cpf, false);
+    }
+
+    public long getValue() {
         return cpf;
     }
 
-    private void validate() {
-        if (cpf == null || !CPF_PATTERN.matcher(cpf).matches()) {
+    public static String format(long cpf) {
+
+        char[] formatted = "000.000.000-00".toCharArray();
+        for (int i = formatted.length - 1; i >= 0 && cpf > 0; i--) {
+            if (Character.isDigit(formatted[i])) {
+                formatted[i] = (char) ('0' + cpf % 10);
+                cpf /= 10;
+            }
+        }
+
+        return new String(formatted);
+    }
+
+    private static long parseValid(String cpf) {
+
+        long number = cpf != null ? parse(cpf) : -1;
+
+        if (number < 0 || !hasValidCheckDigits(number)) {
             throw new InvalidCPFException(cpf);
         }
+
+        return number;
+    }
+
+    static long parse(CharSequence value) {
+
+        if (!matchesFormat(value) && !isPlainDigits(value)) {
+            return -1;
+        }
+
+        long number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = number * 10 + (c - '0');
+            }
+        }
+
+        return number;
+    }
+
+    static boolean matchesFormat(CharSequence value) {
+
+        if (value.length() != 14) {
+            return false;
+        }
+
+        for (int i = 0; i < 14; i++) {
+            char c = value.charAt(i);
+            boolean valid = switch (i) {
+                case 3, 7 -> c == '.';
+                case 11 -> c == '-';
+                default -> c >= '0' && c <= '9';
+            };
+            if (!valid) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isPlainDigits(CharSequence value) {
+
+        if (value.length() != 11) {
+            return false;
+        }
+
+        for (int i = 0; i < 11; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static boolean hasValidCheckDigits(long number) {
+
+        if (number < 0 || number > MAX_NUMBER || number % 11_111_111_111L == 0) {
+            return false;
+        }
+
+        long base = number / 100;
+        int firstSum = 0;
+        int secondSum = 0;
+
+        for (int weight = 2; weight <= 10; weight++) {
+            int digit = (int) (base % 10);
+            firstSum += digit * weight;
+            secondSum += digit * (weight + 1);
+            base /= 10;
+        }
+
+        int firstCheckDigit = checkDigit(firstSum);
+        int secondCheckDigit = checkDigit(secondSum + firstCheckDigit * 2);
+
+        return number % 100 == firstCheckDigit * 10L + secondCheckDigit;
+    }
+
+    private static int checkDigit(int weightedSum) {
+
+        return (weightedSum * 10) % 11 % 10;
     }
 
     @Override
@@ -40,11 +151,11 @@ public class CPF extends ValueObject {
         if (this == o) return true;
         if (!(o instanceof CPF)) return false;
         CPF cpf1 = (CPF) o;
-        return Objects.equals(cpf, cpf1.cpf);
+        return cpf == cpf1.cpf;
     }
 
     @Override
     public int hashCode() {
-        return 31 + (cpf != null ? cpf.hashCode() : 0);
+        return 31 + Long.hashCode(cpf);
     }
 }
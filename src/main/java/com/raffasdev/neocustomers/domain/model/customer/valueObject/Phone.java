@@ -3,36 +3,182 @@ package com.raffasdev.neocustomers.domain.model.customer.valueObject;
 import com.raffasdev.neocustomers.domain.exception.InvalidPhoneException;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.ValueObject;
 
-import java.util.Objects;
-import java.util.regex.Pattern;
-
 public class Phone extends ValueObject {
 
-    private final String phone;
+    private static final long COUNTRY_CODE = 55;
+
+    private static final int MAX_E164_DIGITS = 15;
+
+    private static final long MIN_E164 = COUNTRY_CODE * 10_000_000_000L;
+
+    private static final long MAX_E164 = (COUNTRY_CODE + 1) * 100_000_000_000L - 1;
 
-    private static final Pattern PHONE_PATTERN = Pattern.compile("^(\\(?\\d{2}\\)?\\s?)?(9?\\d{4}[-.\\s]?\\d{4})$");
+    private final long phone;
 
     public Phone(String phone) {
+        this(parseValid(phone), false);
+    }
+
+    private Phone(long phone, boolean validate) {
         this.phone = phone;
-        validate();
+        if (validate && !isValidE164(phone)) {
+            throw new InvalidPhoneException(String.valueOf(phone));
+        }
     }
 
     public static Phone of(String phone) {
         return new Phone(phone);
     }
 
+    public static Phone of(long phone) {
+        return new Phone(phone, true);
+    }
+
     public static Phone newPhone(String phone) {
         return new Phone(phone);
     }
 
-    public String getValue() {
+    public static Phone reconstitute(long phone) {
+        return new Phone(phone, false);
+    }
+
+    public long getValue() {
         return phone;
     }
 
-    private void validate() {
-        if (phone == null || !PHONE_PATTERN.matcher(phone).matches()) {
+    private static long parseValid(String phone) {
+
+        long e164 = phone != null ? toE164(phone) : -1;
+
+        if (e164 < 0) {
             throw new InvalidPhoneException(phone);
         }
+
+        return e164;
+    }
+
+    static long toE164(CharSequence value) {
+
+        boolean international = value.length() > 3 && value.charAt(0) == '+';
+        if (!international && !matchesFormat(value)) {
+            return -1;
+        }
+
+        long digits = 0;
+        int digitCount = 0;
+        for (int i = international ? 1 : 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitCount > MAX_E164_DIGITS) {
+                    return -1;
+                }
+                digits = digits * 10 + (c - '0');
+            } else if (international) {
+                return -1;
+            }
+        }
+
+        if (international) {
+            return isValidE164(digits) ? digits : -1;
+        }
+
+        if (digitCount != 10 && digitCount != 11) {
+            return -1;
+        }
+
+        return COUNTRY_CODE * (digitCount == 10 ? 10_000_000_000L : 100_000_000_000L) + digits;
+    }
+
+    private static boolean isValidE164(long value) {
+
+        return (value >= MIN_E164 && value < (COUNTRY_CODE + 1) * 10_000_000_000L)
+                || (value >= COUNTRY_CODE * 100_000_000_000L && value <= MAX_E164);
+    }
+
+    static boolean matchesFormat(CharSequence value) {
+
+        int length = value.length();
+
+        if (matchesNumber(value, 0, length)) {
+            return true;
+        }
+
+        for (int open = 0; open <= 1; open++) {
+            if (open == 1 && (length == 0 || value.charAt(0) != '(')) {
+                continue;
+            }
+            if (!isDigits(value, open, 2, length)) {
+                continue;
+            }
+
+            for (int close = 0; close <= 1; close++) {
+                int numberStart = open + 2 + close;
+                if (close == 1 && (numberStart > length || value.charAt(numberStart - 1) != ')')) {
+                    continue;
+                }
+                if (matchesNumber(value, numberStart, length)) {
+                    return true;
+                }
+                if (numberStart < length && isWhitespace(value.charAt(numberStart))
+                        && matchesNumber(value, numberStart + 1, length)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean matchesNumber(CharSequence value, int start, int end) {
+
+        for (int leadingNine = 0; leadingNine <= 1; leadingNine++) {
+            if (leadingNine == 1 && (start >= end || value.charAt(start) != '9')) {
+                continue;
+            }
+
+            int prefixStart = start + leadingNine;
+            if (!isDigits(value, prefixStart, 4, end)) {
+                continue;
+            }
+
+            int separatorOrSuffix = prefixStart + 4;
+            int remaining = end - separatorOrSuffix;
+            if (remaining == 4 && isDigits(value, separatorOrSuffix, 4, end)) {
+                return true;
+            }
+            if (remaining == 5 && isSeparator(value.charAt(separatorOrSuffix))
+                    && isDigits(value, separatorOrSuffix + 1, 4, end)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isDigits(CharSequence value, int start, int count, int end) {
+
+        if (start + count > end) {
+            return false;
+        }
+
+        for (int i = start; i < start + count; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isSeparator(char c) {
+
+        return c == '-' || c == '.' || isWhitespace(c);
+    }
+
+    private static boolean isWhitespace(char c) {
+
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     @Override
@@ -40,11 +186,11 @@ public class Phone extends ValueObject {
         if (this == o) return true;
         if (!(o instanceof Phone)) return false;
         Phone phone1 = (Phone) o;
-        return Objects.equals(phone, phone1.phone);
+        return phone == phone1.phone;
     }
 
     @Override
     public int hashCode() {
-        return 31 + (phone != null ? phone.hashCode() : 0);
+        return 31 + Long.hashCode(phone);
     }
 }
@@ -3,20 +3,20 @@ package com.raffasdev.neocustomers.domain.model.shared.valueObject;
 import com.raffasdev.neocustomers.domain.exception.InvalidEmailException;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 public class Email extends ValueObject {
 
     private final String email;
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,5}$",
-            Pattern.CASE_INSENSITIVE
-    );
-
     private Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean validate) {
         this.email = email;
-        validate();
+        if (validate) {
+            validate();
+        }
     }
 
     public static Email of(String email) {
@@ -27,16 +27,75 @@ public class Email extends ValueObject {
         return new Email(email);
     }
 
+    public static Email reconstitute(String email) {
+        return new Email(email, false);
+    }
+
     public String getValue() {
         return this.email;
     }
 
     private void validate() {
-        if (email == null || !EMAIL_PATTERN.matcher(email).matches()) {
+        if (email == null || !matchesFormat(email)) {
             throw new InvalidEmailException(email);
         }
     }
 
+    static boolean matchesFormat(CharSequence value) {
+
+        int length = value.length();
+        int at = -1;
+        int lastDot = -1;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (at < 0) {
+                if (c == '@') {
+                    at = i;
+                } else if (!isLocalPartChar(c)) {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+
+        if (at < 1 || lastDot <= at + 1) {
+            return false;
+        }
+
+        int topLevelDomainLength = length - lastDot - 1;
+        if (topLevelDomainLength < 2 || topLevelDomainLength > 5) {
+            return false;
+        }
+
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+
+        return isLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLetter(char c) {
+
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
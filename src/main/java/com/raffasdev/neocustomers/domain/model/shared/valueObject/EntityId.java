@@ -17,7 +17,7 @@ public class EntityId extends ValueObject {
     }
 
     public static EntityId newId() {
-        return new EntityId(UUID.randomUUID());
+        return new EntityId(UuidV7Generator.next());
     }
 
     public UUID getValue() {
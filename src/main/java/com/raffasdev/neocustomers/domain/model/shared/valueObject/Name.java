@@ -9,8 +9,14 @@ public class Name extends ValueObject {
     private final String name;
 
     private Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean validate) {
         this.name = name;
-        validate();
+        if (validate) {
+            validate();
+        }
     }
 
     public static Name newName(String name) {
@@ -21,6 +27,10 @@ public class Name extends ValueObject {
         return new Name(name);
     }
 
+    public static Name reconstitute(String name) {
+        return new Name(name, false);
+    }
+
     public String getValue() {
         return this.name;
     }
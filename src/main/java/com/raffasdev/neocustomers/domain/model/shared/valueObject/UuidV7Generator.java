@@ -0,0 +1,57 @@
+package com.raffasdev.neocustomers.domain.model.shared.valueObject;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+final class UuidV7Generator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private static final long VERSION_7 = 0x7000L;
+
+    private static final long VARIANT_IETF = 0x8000_0000_0000_0000L;
+
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final UuidV7Generator DEFAULT = new UuidV7Generator(System::currentTimeMillis);
+
+    private final LongSupplier clock;
+
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    static UUID next() {
+        return DEFAULT.generate();
+    }
+
+    UUID generate() {
+
+        long timestampAndCounter = this.nextTimestampAndCounter();
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSigBits = VARIANT_IETF | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextTimestampAndCounter() {
+
+        long now = clock.getAsLong() << COUNTER_BITS;
+
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            long next = Math.max(now, last + 1);
+
+            if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
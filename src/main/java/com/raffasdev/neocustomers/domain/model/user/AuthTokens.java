@@ -0,0 +1,4 @@
+package com.raffasdev.neocustomers.domain.model.user;
+
+public record AuthTokens(String accessToken, String refreshToken) {
+}
@@ -6,7 +6,13 @@ import java.util.Set;
 
 public interface IAuthService {
 
-    String loginUser(String email, String password);
+    AuthTokens loginUser(String email, String password);
+
+    AuthTokens refreshTokens(String refreshToken);
+
+    void logoutUser(String accessToken, String refreshToken);
+
+    void logoutAllSessions(String accessToken);
 
     User registerUser(String name, String email, Set<Role> roles, String password);
 }
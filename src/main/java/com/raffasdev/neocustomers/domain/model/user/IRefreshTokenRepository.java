@@ -0,0 +1,19 @@
+package com.raffasdev.neocustomers.domain.model.user;
+
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IRefreshTokenRepository {
+
+    void save(String tokenHash, EntityId userId, Instant expiresAt);
+
+    Optional<User> findUserByActiveTokenHash(String tokenHash, Instant now);
+
+    boolean deleteByTokenHash(String tokenHash);
+
+    int deleteExpiredByUserId(EntityId userId, Instant now);
+
+    int deleteByUserId(EntityId userId);
+}
@@ -1,5 +1,7 @@
 package com.raffasdev.neocustomers.domain.model.user;
 
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+
 import java.util.Optional;
 
 public interface IUserRepository {
@@ -9,4 +11,8 @@ public interface IUserRepository {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    void updatePassword(EntityId userId, String encodedPassword);
+
+    boolean incrementTokenVersion(EntityId userId, long expectedTokenVersion);
 }
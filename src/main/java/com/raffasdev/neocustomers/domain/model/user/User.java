@@ -6,7 +6,9 @@ import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
 import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
 
+import java.util.EnumSet;
 import java.util.Set;
+import java.util.UUID;
 
 public class User extends Entity<EntityId> {
 
@@ -14,21 +16,30 @@ public class User extends Entity<EntityId> {
     private final Email email;
     private final Set<Role> roles;
     private final String encodedPassword;
+    private final long tokenVersion;
 
-    private User(EntityId id, Name name, Email email, Set<Role> roles, String encodedPassword) {
+    private User(EntityId id, Name name, Email email, Set<Role> roles, String encodedPassword, long tokenVersion) {
         super(id);
         this.name = name;
         this.email = email;
-        this.roles = roles;
+        this.roles = (roles == null || roles.isEmpty()) ? EnumSet.noneOf(Role.class) : EnumSet.copyOf(roles);
         this.encodedPassword = encodedPassword;
+        this.tokenVersion = tokenVersion;
     }
 
     public static User create(EntityId id, Name name, Email email, Set<Role> roles, String encodedPassword) {
-        return new User(id, name, email, roles, encodedPassword);
+        return new User(id, name, email, roles, encodedPassword, 0L);
     }
 
-    public static User reconstitute(EntityId id, Name name, Email email, Set<Role> roles, String encodedPassword) {
-        return new User(id, name, email, roles, encodedPassword);
+    public static User reconstitute(EntityId id, Name name, Email email, Set<Role> roles, String encodedPassword,
+                                    long tokenVersion) {
+        return new User(id, name, email, roles, encodedPassword, tokenVersion);
+    }
+
+    public static User reconstitute(UUID id, String name, String email, Set<Role> roles, String encodedPassword,
+                                    long tokenVersion) {
+        return new User(EntityId.of(id), Name.reconstitute(name), Email.reconstitute(email), roles, encodedPassword,
+                tokenVersion);
     }
 
     public boolean hasName(Name name) {
@@ -58,4 +69,8 @@ public class User extends Entity<EntityId> {
     public String getEncodedPassword() {
         return this.encodedPassword;
     }
+
+    public long getTokenVersion() {
+        return this.tokenVersion;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,40 @@
 package com.raffasdev.neocustomers.domain.model.user.valueObject;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum Role {
-    USER_ADMIN
-}
\ No newline at end of file
+    USER_ADMIN(1);
+
+    private final int bit;
+
+    Role(int bit) {
+        this.bit = bit;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public static int toMask(Set<Role> roles) {
+
+        int mask = 0;
+        if (roles != null) {
+            for (Role role : roles) {
+                mask |= role.bit;
+            }
+        }
+        return mask;
+    }
+
+    public static EnumSet<Role> fromMask(int mask) {
+
+        EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+        for (Role role : values()) {
+            if ((mask & role.bit) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+}
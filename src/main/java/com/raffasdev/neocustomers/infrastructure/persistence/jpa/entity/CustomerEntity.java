@@ -3,16 +3,33 @@ package com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "customers")
+@Table(name = "customers", indexes = {
+        @Index(name = "idx_customers_name_id", columnList = "name, customer_id"),
+        @Index(name = "idx_customers_birthdate_id", columnList = "birthdate, customer_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = CustomerEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = CustomerEntity.CPF_UNIQUE_CONSTRAINT, columnNames = "cpf")
+})
 @Getter
-public class CustomerEntity {
+public class CustomerEntity implements Persistable<UUID> {
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_customers_email";
+
+    public static final String CPF_UNIQUE_CONSTRAINT = "uk_customers_cpf";
 
     @Id
     @Column(name = "customer_id")
@@ -21,22 +38,26 @@ public class CustomerEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
-    @Column(name = "cpf", nullable = false, unique = true)
-    private String cpf;
+    @Column(name = "cpf", nullable = false)
+    private long cpf;
 
     @Column(name = "phone", nullable = false)
-    private String phone;
+    private long phone;
 
     @Column(name = "birthdate", nullable = false)
     private LocalDate birthDate;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     public CustomerEntity() {
     }
 
-    private CustomerEntity(UUID customerId, String name, String email, String cpf, String phone,
+    private CustomerEntity(UUID customerId, String name, String email, long cpf, long phone,
                            LocalDate birthDate) {
         this.customerId = customerId;
         this.name = name;
@@ -46,8 +67,24 @@ public class CustomerEntity {
         this.birthDate = birthDate;
     }
 
-    public static CustomerEntity create(UUID customerId, String name, String email, String cpf, String phone,
+    public static CustomerEntity create(UUID customerId, String name, String email, long cpf, long phone,
                                         LocalDate birthDate) {
         return new CustomerEntity(customerId, name, email, cpf, phone, birthDate);
     }
+
+    @Override
+    public UUID getId() {
+        return this.customerId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -0,0 +1,58 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "refresh_tokens", indexes = @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"))
+@Getter
+public class RefreshTokenEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public RefreshTokenEntity() {
+    }
+
+    private RefreshTokenEntity(String tokenHash, UserEntity user, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+
+    public static RefreshTokenEntity create(String tokenHash, UserEntity user, Instant expiresAt) {
+        return new RefreshTokenEntity(tokenHash, user, expiresAt);
+    }
+
+    @Override
+    public String getId() {
+        return this.tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,57 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"))
+@Getter
+public class RevokedTokenEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public RevokedTokenEntity() {
+    }
+
+    private RevokedTokenEntity(String tokenId, Instant expiresAt, Instant revokedAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    public static RevokedTokenEntity create(String tokenId, Instant expiresAt, Instant revokedAt) {
+        return new RevokedTokenEntity(tokenId, expiresAt, revokedAt);
+    }
+
+    @Override
+    public String getId() {
+        return this.tokenId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
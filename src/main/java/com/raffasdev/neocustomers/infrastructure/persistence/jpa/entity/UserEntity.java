@@ -1,22 +1,23 @@
 package com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity;
 
 import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import com.raffasdev.neocustomers.infrastructure.security.RoleAuthorities;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.data.domain.Persistable;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "users")
 @Getter
-public class UserEntity implements UserDetails {
+public class UserEntity implements UserDetails, Persistable<UUID> {
 
     @Id
     @Column(name = "user_id")
@@ -28,39 +29,63 @@ public class UserEntity implements UserDetails {
     @Column(name = "email", nullable = false, unique = true)
     private String email;
 
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "roles", nullable = false)
-    private Set<Role> roles = new HashSet<>();
+    @Column(name = "role_mask", nullable = false, columnDefinition = "integer default 0")
+    private int roleMask;
 
     @Column(nullable = false)
     private String password;
 
+    @Column(name = "token_version", nullable = false, columnDefinition = "bigint default 0")
+    private long tokenVersion;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     public UserEntity() {
     }
 
-    private UserEntity(UUID userId, String name, String email, Set<Role> roles, String password) {
+    private UserEntity(UUID userId, String name, String email, Set<Role> roles, String password, long tokenVersion) {
         this.userId = userId;
         this.name = name;
         this.email = email;
-        this.roles = roles;
+        this.roleMask = Role.toMask(roles);
         this.password = password;
+        this.tokenVersion = tokenVersion;
+    }
+
+    public static UserEntity create(UUID userId, String name, String email, Set<Role> roles, String password,
+                                    long tokenVersion) {
+        return new UserEntity(userId, name, email, roles, password, tokenVersion);
     }
 
-    public static UserEntity create(UUID userId, String name, String email, Set<Role> roles, String password) {
-        return new UserEntity(userId, name, email, roles, password);
+    public EnumSet<Role> getRoles() {
+        return Role.fromMask(this.roleMask);
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.name()))
-                .collect(Collectors.toSet());
+        return RoleAuthorities.of(this.roleMask);
     }
 
     @Override
     public String getUsername() {
         return this.email;
     }
+
+    @Override
+    public UUID getId() {
+        return this.userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
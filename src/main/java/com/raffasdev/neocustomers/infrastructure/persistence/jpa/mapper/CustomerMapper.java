@@ -1,12 +1,6 @@
 package com.raffasdev.neocustomers.infrastructure.persistence.jpa.mapper;
 
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
-import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
-import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
-import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
-import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
-import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
-import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
 import org.springframework.stereotype.Component;
 
@@ -33,12 +27,12 @@ public final class CustomerMapper {
             return null;
         }
         return Customer.reconstitute(
-                EntityId.of(entity.getCustomerId()),
-                Name.of(entity.getName()),
-                Email.of(entity.getEmail()),
-                CPF.of(entity.getCpf()),
-                Phone.of(entity.getPhone()),
-                BirthDate.of(entity.getBirthDate())
+                entity.getCustomerId(),
+                entity.getName(),
+                entity.getEmail(),
+                entity.getCpf(),
+                entity.getPhone(),
+                entity.getBirthDate()
         );
     }
 
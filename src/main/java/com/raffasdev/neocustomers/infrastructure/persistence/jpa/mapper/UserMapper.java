@@ -1,8 +1,5 @@
 package com.raffasdev.neocustomers.infrastructure.persistence.jpa.mapper;
 
-import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
-import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
-import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
 import com.raffasdev.neocustomers.domain.model.user.User;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.UserEntity;
 import org.springframework.stereotype.Component;
@@ -19,7 +16,8 @@ public final class UserMapper {
                 user.getName(),
                 user.getEmail(),
                 user.getRoles(),
-                user.getEncodedPassword()
+                user.getEncodedPassword(),
+                user.getTokenVersion()
         );
     }
 
@@ -29,11 +27,12 @@ public final class UserMapper {
             return null;
         }
         return User.reconstitute(
-                EntityId.of(entity.getUserId()),
-                Name.of(entity.getName()),
-                Email.of(entity.getEmail()),
+                entity.getUserId(),
+                entity.getName(),
+                entity.getEmail(),
                 entity.getRoles(),
-                entity.getPassword()
+                entity.getPassword(),
+                entity.getTokenVersion()
         );
     }
 
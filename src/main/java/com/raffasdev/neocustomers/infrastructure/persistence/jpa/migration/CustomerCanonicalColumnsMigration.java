@@ -0,0 +1,82 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerCanonicalColumnsMigration implements ApplicationRunner {
+
+    private static final String TEXT_COLUMNS_SQL = """
+            select lower(column_name) from information_schema.columns
+            where lower(table_name) = 'customers'
+            and lower(column_name) in ('cpf', 'phone')
+            and lower(data_type) in ('character varying', 'varchar', 'text')
+            """;
+
+    static final String CPF_TO_BIGINT_SQL = """
+            alter table customers alter column cpf type bigint
+            using regexp_replace(cpf, '\\D', '', 'g')::bigint
+            """;
+
+    private static final String UNCONVERTIBLE_PHONE_FILTER =
+            "length(regexp_replace(phone, '\\D', '', 'g')) not in (10, 11)";
+
+    static final String COUNT_UNCONVERTIBLE_PHONES_SQL =
+            "select count(*) from customers where " + UNCONVERTIBLE_PHONE_FILTER;
+
+    static final String UNCONVERTIBLE_PHONES_SQL = "select customer_id, phone from customers where "
+            + UNCONVERTIBLE_PHONE_FILTER + " order by customer_id limit ?";
+
+    static final String PHONE_TO_BIGINT_SQL = """
+            alter table customers alter column phone type bigint
+            using ('55' || regexp_replace(phone, '\\D', '', 'g'))::bigint
+            """;
+
+    static final int MAX_REPORTED_PHONES = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        this.migrate();
+    }
+
+    public int migrate() {
+
+        List<String> textColumns = jdbcTemplate.queryForList(TEXT_COLUMNS_SQL, String.class);
+
+        if (textColumns.contains("phone")) {
+            this.requireConvertiblePhones();
+        }
+
+        if (textColumns.contains("cpf")) {
+            jdbcTemplate.execute(CPF_TO_BIGINT_SQL);
+        }
+
+        if (textColumns.contains("phone")) {
+            jdbcTemplate.execute(PHONE_TO_BIGINT_SQL);
+        }
+
+        return textColumns.size();
+    }
+
+    private void requireConvertiblePhones() {
+
+        Long unconvertible = jdbcTemplate.queryForObject(COUNT_UNCONVERTIBLE_PHONES_SQL, Long.class);
+
+        if (unconvertible != null && unconvertible > 0) {
+            List<String> examples = jdbcTemplate.query(UNCONVERTIBLE_PHONES_SQL,
+                    (rs, rowNum) -> rs.getString("customer_id") + "=" + rs.getString("phone"), MAX_REPORTED_PHONES);
+
+            throw new IllegalStateException(("%d customers have a phone without area code that cannot be stored "
+                    + "as E.164; fix or remove them before migrating: %s").formatted(
+                    unconvertible, String.join(", ", examples)));
+        }
+    }
+}
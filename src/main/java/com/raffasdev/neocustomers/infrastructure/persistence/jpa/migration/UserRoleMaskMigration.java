@@ -0,0 +1,62 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.migration;
+
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import com.raffasdev.neocustomers.infrastructure.security.PrincipalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class UserRoleMaskMigration implements SmartInitializingSingleton {
+
+    private static final String LEGACY_TABLE_EXISTS_SQL = """
+            select count(*) from information_schema.tables where lower(table_name) = 'user_roles'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PrincipalCache principalCache;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.migrate();
+    }
+
+    public int migrate() {
+
+        Integer legacyTables = jdbcTemplate.queryForObject(LEGACY_TABLE_EXISTS_SQL, Integer.class);
+
+        if (legacyTables == null || legacyTables == 0) {
+            return 0;
+        }
+
+        int migrated = jdbcTemplate.update(backfillSql());
+
+        if (migrated > 0) {
+            principalCache.invalidateAll();
+        }
+
+        return migrated;
+    }
+
+    static String backfillSql() {
+
+        String bitByRole = Arrays.stream(Role.values())
+                .map(role -> "when '" + role.name() + "' then " + role.getBit())
+                .collect(Collectors.joining(" "));
+
+        return """
+                update users set role_mask = (
+                    select coalesce(sum(case ur.roles %s else 0 end), 0)
+                    from user_roles ur
+                    where ur.user_id = users.user_id)
+                where role_mask = 0
+                and exists (select 1 from user_roles ur where ur.user_id = users.user_id)
+                """.formatted(bitByRole);
+    }
+}
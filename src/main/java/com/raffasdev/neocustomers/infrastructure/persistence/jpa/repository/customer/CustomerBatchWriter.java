@@ -0,0 +1,46 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+@Component
+public class CustomerBatchWriter {
+
+    private static final String INSERT_SQL = "insert into customers (customer_id, name, email, cpf, phone, birthdate) "
+            + "values (?, ?, ?, ?, ?, ?) on conflict do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int[] insertAll(List<Customer> customers) {
+
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+
+                Customer customer = customers.get(i);
+                statement.setObject(1, customer.getId().getValue());
+                statement.setString(2, customer.getName());
+                statement.setString(3, customer.getEmail());
+                statement.setLong(4, customer.getCPF());
+                statement.setLong(5, customer.getPhone());
+                statement.setObject(6, customer.getBirthDate());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return customers.size();
+            }
+        });
+    }
+}
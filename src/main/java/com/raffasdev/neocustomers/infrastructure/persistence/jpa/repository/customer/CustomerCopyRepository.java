@@ -0,0 +1,102 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.application.exception.BulkCopyUnavailableException;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerLoadResult;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Repository
+public class CustomerCopyRepository {
+
+    static final String COLUMNS = "customer_id, name, email, cpf, phone, birthdate";
+
+    static final String CREATE_STAGING_SQL =
+            "create temp table customers_staging (like customers, line_number bigserial) on commit drop";
+
+    static final String COPY_IN_SQL =
+            "copy customers_staging (" + COLUMNS + ") from stdin with (format csv, header true)";
+
+    static final String MERGE_SQL = "insert into customers (" + COLUMNS + ") "
+            + "select distinct on (cpf) " + COLUMNS + " from customers_staging order by cpf, line_number desc "
+            + "on conflict (cpf) do update set name = excluded.name, email = excluded.email, "
+            + "phone = excluded.phone, birthdate = excluded.birthdate";
+
+    static final String COPY_OUT_SQL = "copy (select " + COLUMNS + " from customers order by customer_id) "
+            + "to stdout with (format csv, header true)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public CustomerCopyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public CustomerLoadResult load(InputStream csv) {
+
+        return this.withCopyManager((connection, copyManager) -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+
+                long copied = copyManager.copyIn(COPY_IN_SQL, new CustomerIdFillingInputStream(
+                        new BufferedInputStream(csv), () -> EntityId.newId().getValue()));
+                long merged = statement.executeUpdate(MERGE_SQL);
+
+                return new CustomerLoadResult(copied, merged);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream csv) {
+
+        return this.withCopyManager((connection, copyManager) -> copyManager.copyOut(COPY_OUT_SQL, csv));
+    }
+
+    private <T> T withCopyManager(CopyCallback<T> callback) {
+
+        if (!this.isAvailable()) {
+            throw new BulkCopyUnavailableException("Bulk copy requires a PostgreSQL database");
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+            try {
+                return callback.doWithCopyManager(connection, connection.unwrap(PGConnection.class).getCopyAPI());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public boolean isAvailable() {
+
+        if (postgres == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(productName);
+        }
+
+        return postgres;
+    }
+
+    @FunctionalInterface
+    private interface CopyCallback<T> {
+
+        T doWithCopyManager(Connection connection, CopyManager copyManager) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,73 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class CustomerCountEstimator {
+
+    private static final String RELTUPLES_SQL = "select reltuples::bigint from pg_class where oid = 'customers'::regclass";
+
+    private static final String EXPLAIN_BY_NAME_SQL =
+            "explain (format json) select 1 from customers where name ilike ? escape '\\'";
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public CustomerCountEstimator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public OptionalLong estimateAll() {
+
+        if (!this.isPostgres()) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            Long reltuples = jdbcTemplate.queryForObject(RELTUPLES_SQL, Long.class);
+
+            return reltuples != null && reltuples >= 0 ? OptionalLong.of(reltuples) : OptionalLong.empty();
+        } catch (DataAccessException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    public OptionalLong estimateByName(String pattern) {
+
+        if (!this.isPostgres()) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            String plan = jdbcTemplate.queryForObject(EXPLAIN_BY_NAME_SQL, String.class, pattern);
+            Matcher matcher = plan != null ? PLAN_ROWS.matcher(plan) : null;
+
+            return matcher != null && matcher.find()
+                    ? OptionalLong.of(Long.parseLong(matcher.group(1)))
+                    : OptionalLong.empty();
+        } catch (DataAccessException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isPostgres() {
+
+        if (postgres == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(productName);
+        }
+
+        return postgres;
+    }
+}
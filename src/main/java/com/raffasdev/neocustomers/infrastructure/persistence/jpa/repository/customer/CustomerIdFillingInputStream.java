@@ -0,0 +1,67 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+final class CustomerIdFillingInputStream extends InputStream {
+
+    private final InputStream csv;
+
+    private final Supplier<UUID> ids;
+
+    private byte[] pending = new byte[0];
+
+    private int pendingPosition;
+
+    private boolean header = true;
+
+    private boolean recordStart = true;
+
+    private boolean quoted;
+
+    CustomerIdFillingInputStream(InputStream csv, Supplier<UUID> ids) {
+        this.csv = csv;
+        this.ids = ids;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        if (pendingPosition < pending.length) {
+            return pending[pendingPosition++] & 0xff;
+        }
+
+        int next = csv.read();
+
+        if (next == -1) {
+            return -1;
+        }
+
+        if (recordStart && !header && next == ',') {
+            this.pending = (ids.get() + ",").getBytes(StandardCharsets.US_ASCII);
+            this.pendingPosition = 0;
+            this.recordStart = false;
+            return pending[pendingPosition++] & 0xff;
+        }
+
+        this.recordStart = false;
+
+        if (next == '"') {
+            this.quoted = !quoted;
+        } else if (next == '\n' && !quoted) {
+            this.recordStart = true;
+            this.header = false;
+        }
+
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        csv.close();
+    }
+}
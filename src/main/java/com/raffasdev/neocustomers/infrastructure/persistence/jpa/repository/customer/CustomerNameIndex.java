@@ -0,0 +1,322 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Component
+public class CustomerNameIndex {
+
+    private final ICustomerJpaRepository customerJpaRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final boolean enabled;
+
+    private final int initialCapacity;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    private final AtomicBoolean asyncRebuildQueued = new AtomicBoolean();
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "customer-name-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private NameNgramIndex index;
+
+    private List<Consumer<NameNgramIndex>> pendingChanges;
+
+    private volatile boolean ready;
+
+    public CustomerNameIndex(ICustomerJpaRepository customerJpaRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${customers.search.name-index.enabled:false}") boolean enabled,
+                             @Value("${customers.search.name-index.initial-capacity:1024}") int initialCapacity) {
+        this.customerJpaRepository = customerJpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.initialCapacity = initialCapacity;
+        this.index = new NameNgramIndex(initialCapacity);
+    }
+
+    public boolean canServe(Pageable pageable) {
+
+        return ready && (pageable.getSort().isUnsorted() || idOrder(pageable.getSort()) != null);
+    }
+
+    public Page<UUID> search(String name, Pageable pageable) {
+
+        lock.readLock().lock();
+        try {
+            int[] matches = index.search(name);
+            int limit = pageable.isPaged()
+                    ? (int) Math.min(pageable.getOffset() + pageable.getPageSize(), matches.length)
+                    : matches.length;
+            int[] ordered = this.first(matches, limit, idOrder(pageable.getSort()));
+
+            int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), limit) : 0;
+
+            List<UUID> ids = new ArrayList<>(limit - from);
+            for (int i = from; i < limit; i++) {
+                ids.add(index.idAt(ordered[i]));
+            }
+
+            return new PageImpl<>(ids, pageable, matches.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+
+        return ready;
+    }
+
+    public long count(String name) {
+
+        lock.readLock().lock();
+        try {
+            return index.search(name).length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(UUID id, String name) {
+
+        this.afterCommit(target -> target.put(id, name));
+    }
+
+    public void putAll(Map<UUID, String> namesById) {
+
+        Map<UUID, String> added = Map.copyOf(namesById);
+        this.afterCommit(target -> added.forEach(target::put));
+    }
+
+    public void remove(UUID id) {
+
+        this.afterCommit(target -> target.remove(id));
+    }
+
+    public void removeAll(Collection<UUID> ids) {
+
+        List<UUID> removed = List.copyOf(ids);
+        this.afterCommit(target -> removed.forEach(target::remove));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${customers.search.name-index.rebuild-interval:1h}",
+            fixedDelayString = "${customers.search.name-index.rebuild-interval:1h}")
+    public void rebuild() {
+
+        if (!enabled) {
+            return;
+        }
+
+        rebuildRequested.set(true);
+
+        while (rebuildRequested.get() && rebuilding.compareAndSet(false, true)) {
+            try {
+                rebuildRequested.set(false);
+                this.rebuildOnce();
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    public void rebuildAsync() {
+
+        if (enabled && asyncRebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                asyncRebuildQueued.set(false);
+                this.rebuild();
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void rebuildOnce() {
+
+        List<Consumer<NameNgramIndex>> pending = new ArrayList<>();
+
+        lock.writeLock().lock();
+        try {
+            this.pendingChanges = pending;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        NameNgramIndex rebuilt = new NameNgramIndex(Math.max(initialCapacity, index.size()));
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<CustomerNameRow> rows = customerJpaRepository.streamAllNames()) {
+                    rows.forEach(row -> rebuilt.put(row.customerId(), row.name()));
+                }
+            });
+        } catch (RuntimeException e) {
+            this.swap(null, pending);
+            throw e;
+        }
+
+        this.swap(rebuilt, pending);
+    }
+
+    private void swap(NameNgramIndex rebuilt, List<Consumer<NameNgramIndex>> pending) {
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                pending.forEach(change -> change.accept(rebuilt));
+                this.index = rebuilt;
+                this.ready = true;
+            }
+            if (pendingChanges == pending) {
+                this.pendingChanges = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Sort.Order idOrder(Sort sort) {
+
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+
+        return first != null && "customerId".equals(first.getProperty()) ? first : null;
+    }
+
+    private int[] first(int[] matches, int limit, Sort.Order order) {
+
+        if (order == null || limit == 0) {
+            return matches;
+        }
+
+        int direction = order.isDescending() ? -1 : 1;
+        int[] heap = new int[limit];
+        int size = 0;
+
+        for (int slot : matches) {
+            if (size < limit) {
+                heap[size] = slot;
+                this.siftUp(heap, size++, direction);
+            } else if (direction * index.compareIds(slot, heap[0]) < 0) {
+                heap[0] = slot;
+                this.siftDown(heap, 0, size, direction);
+            }
+        }
+
+        for (int last = size - 1; last > 0; last--) {
+            int top = heap[0];
+            heap[0] = heap[last];
+            heap[last] = top;
+            this.siftDown(heap, 0, last, direction);
+        }
+
+        return heap;
+    }
+
+    private void siftUp(int[] heap, int position, int direction) {
+
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (direction * index.compareIds(heap[position], heap[parent]) <= 0) {
+                return;
+            }
+            exchange(heap, position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int position, int size, int direction) {
+
+        while (2 * position + 1 < size) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && direction * index.compareIds(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (direction * index.compareIds(heap[child], heap[position]) <= 0) {
+                return;
+            }
+            exchange(heap, position, child);
+            position = child;
+        }
+    }
+
+    private static void exchange(int[] heap, int left, int right) {
+
+        int swapped = heap[left];
+        heap[left] = heap[right];
+        heap[right] = swapped;
+    }
+
+    private void afterCommit(Consumer<NameNgramIndex> change) {
+
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+            return;
+        }
+
+        this.apply(change);
+    }
+
+    private void apply(Consumer<NameNgramIndex> change) {
+
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
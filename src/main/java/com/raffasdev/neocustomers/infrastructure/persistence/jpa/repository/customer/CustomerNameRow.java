@@ -0,0 +1,6 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import java.util.UUID;
+
+public record CustomerNameRow(UUID customerId, String name) {
+}
@@ -0,0 +1,63 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerNameTrigramIndex implements ApplicationRunner {
+
+    private static final String CREATE_EXTENSION_SQL = "create extension if not exists pg_trgm";
+
+    private static final String CREATE_INDEX_SQL =
+            "create index if not exists idx_customers_name_trgm on customers using gin (name gin_trgm_ops)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+
+    private volatile boolean available;
+
+    public CustomerNameTrigramIndex(JdbcTemplate jdbcTemplate,
+                                    @Value("${customers.search.trigram.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        this.initialize();
+    }
+
+    public void initialize() {
+
+        if (!enabled || !this.isPostgres()) {
+            this.available = false;
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute(CREATE_EXTENSION_SQL);
+            jdbcTemplate.execute(CREATE_INDEX_SQL);
+            this.available = true;
+        } catch (DataAccessException e) {
+            this.available = false;
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    private boolean isPostgres() {
+
+        String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+
+        return "PostgreSQL".equalsIgnoreCase(productName);
+    }
+}
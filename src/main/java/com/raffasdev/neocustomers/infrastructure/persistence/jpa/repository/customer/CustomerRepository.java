@@ -1,40 +1,278 @@
 package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
 
+import com.raffasdev.neocustomers.application.exception.CPFAlreadyExistsException;
+import com.raffasdev.neocustomers.application.exception.EmailAlreadyExistsException;
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerCount;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.domain.model.customer.ICustomerRepository;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.mapper.CustomerMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 @Repository
 @AllArgsConstructor
 public class CustomerRepository implements ICustomerRepository {
 
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "customerId", "customer_id",
+            "name", "name",
+            "email", "email",
+            "cpf", "cpf",
+            "phone", "phone",
+            "birthDate", "birthdate"
+    );
+
+    static final int DELETE_BATCH_SIZE = 1000;
+
     private ICustomerJpaRepository customerJpaRepository;
 
     private CustomerMapper customerMapper;
 
+    private CustomerNameTrigramIndex customerNameTrigramIndex;
+
+    private CustomerNameIndex customerNameIndex;
+
+    private CustomerCountEstimator customerCountEstimator;
+
+    private EntityManager entityManager;
+
     @Override
     public Customer save(Customer customer) {
 
-        return customerMapper.toDomain(customerJpaRepository.save(customerMapper.toEntity(customer)));
+        try {
+            return customerMapper.toDomain(customerJpaRepository.saveAndFlush(customerMapper.toEntity(customer)));
+        } catch (DataIntegrityViolationException e) {
+            throw this.translateUniqueViolation(e, customer);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int updateById(UUID id, Name name, Email email, Phone phone, BirthDate birthDate) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<CustomerEntity> update = builder.createCriteriaUpdate(CustomerEntity.class);
+        Root<CustomerEntity> customer = update.from(CustomerEntity.class);
+
+        if (name != null) {
+            update.set(customer.<String>get("name"), name.getValue());
+        }
+        if (email != null) {
+            update.set(customer.<String>get("email"), email.getValue());
+        }
+        if (phone != null) {
+            update.set(customer.<Long>get("phone"), phone.getValue());
+        }
+        if (birthDate != null) {
+            update.set(customer.<LocalDate>get("birthDate"), birthDate.getValue());
+        }
+        update.where(builder.equal(customer.get("customerId"), id));
+
+        try {
+            return entityManager.createQuery(update).executeUpdate();
+        } catch (PersistenceException e) {
+            if (email != null && violatedConstraint(e).contains(CustomerEntity.EMAIL_UNIQUE_CONSTRAINT)) {
+                throw new EmailAlreadyExistsException(email.getValue());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Page<CustomerSummary> findAllSummaries(Pageable pageable) {
+
+        return customerJpaRepository.findAllSummaries(pageable);
+    }
+
+    @Override
+    public Page<CustomerSummary> searchSummariesByName(String name, Pageable pageable) {
+
+        if (customerNameIndex.canServe(pageable)) {
+            return this.hydrateSummaries(customerNameIndex.search(name, pageable));
+        }
+
+        if (!customerNameTrigramIndex.isAvailable()) {
+            return customerJpaRepository.searchSummariesByName(containsPattern(name), pageable);
+        }
+
+        return this.hydrateSummaries(customerJpaRepository
+                .searchIdsByNameTrigram(containsPattern(name), toColumnSort(pageable))
+                .map(UUID::fromString));
+    }
+
+    @Override
+    public Optional<CustomerSummary> findSummaryById(UUID id) {
+
+        return customerJpaRepository.findSummaryById(id);
+    }
+
+    @Override
+    public Slice<CustomerSummary> findAllSummariesSlice(Pageable pageable) {
+
+        return customerJpaRepository.findAllSummariesSlice(pageable);
+    }
+
+    @Override
+    public Slice<CustomerSummary> searchSummariesSliceByName(String name, Pageable pageable) {
+
+        if (customerNameIndex.canServe(pageable)) {
+            return this.hydrateSummaries(customerNameIndex.search(name, pageable));
+        }
+
+        if (!customerNameTrigramIndex.isAvailable()) {
+            return customerJpaRepository.searchSummariesSliceByName(containsPattern(name), pageable);
+        }
+
+        return this.hydrateSummaries(customerJpaRepository
+                .searchIdSliceByNameTrigram(containsPattern(name), toColumnSort(pageable))
+                .map(UUID::fromString));
+    }
+
+    @Override
+    public CustomerCount countAll(boolean approximate) {
+
+        OptionalLong estimate = approximate ? customerCountEstimator.estimateAll() : OptionalLong.empty();
+
+        return estimate.isPresent()
+                ? CustomerCount.approximate(estimate.getAsLong())
+                : CustomerCount.exact(customerJpaRepository.count());
     }
 
     @Override
-    public Page<Customer> findAll(Pageable pageable) {
+    public CustomerCount countByName(String name, boolean approximate) {
+
+        if (customerNameIndex.isReady()) {
+            return CustomerCount.exact(customerNameIndex.count(name));
+        }
+
+        if (!customerNameTrigramIndex.isAvailable()) {
+            return CustomerCount.exact(customerJpaRepository.countByNameIgnoreCaseContaining(name));
+        }
+
+        String pattern = containsPattern(name);
+        OptionalLong estimate = approximate ? customerCountEstimator.estimateByName(pattern) : OptionalLong.empty();
+
+        return estimate.isPresent()
+                ? CustomerCount.approximate(estimate.getAsLong())
+                : CustomerCount.exact(customerJpaRepository.countByNameTrigram(pattern));
+    }
+
+    private Page<CustomerSummary> hydrateSummaries(Page<UUID> ids) {
+
+        return new PageImpl<>(this.findSummariesInOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    private Slice<CustomerSummary> hydrateSummaries(Slice<UUID> ids) {
+
+        return new SliceImpl<>(this.findSummariesInOrder(ids.getContent()), ids.getPageable(), ids.hasNext());
+    }
+
+    private List<CustomerSummary> findSummariesInOrder(List<UUID> ids) {
+
+        Map<UUID, CustomerSummary> summariesById = new HashMap<>();
+        customerJpaRepository.findSummariesByIds(ids)
+                .forEach(summary -> summariesById.put(summary.id(), summary));
+
+        return ids.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    static String containsPattern(String name) {
 
-        return customerJpaRepository.findAll(pageable).map(customerMapper::toDomain);
+        String escaped = name.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+
+        return "%" + escaped + "%";
+    }
+
+    private static Pageable toColumnSort(Pageable pageable) {
+
+        List<Sort.Order> orders = pageable.getSort().stream()
+                .filter(order -> SORT_COLUMNS.containsKey(order.getProperty()))
+                .map(order -> order.withProperty(SORT_COLUMNS.get(order.getProperty())))
+                .toList();
+
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders))
+                : Pageable.unpaged(Sort.by(orders));
+    }
+
+    private RuntimeException translateUniqueViolation(DataIntegrityViolationException exception, Customer customer) {
+
+        String constraint = violatedConstraint(exception);
+
+        if (constraint.contains(CustomerEntity.EMAIL_UNIQUE_CONSTRAINT)) {
+            return new EmailAlreadyExistsException(customer.getEmail());
+        }
+
+        if (constraint.contains(CustomerEntity.CPF_UNIQUE_CONSTRAINT)) {
+            return new CPFAlreadyExistsException(CPF.format(customer.getCPF()));
+        }
+
+        return exception;
+    }
+
+    private static String violatedConstraint(RuntimeException exception) {
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+
+        String message = NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+        return message != null ? message.toLowerCase(Locale.ROOT) : "";
     }
 
     @Override
-    public Page<Customer> searchByName(String name, Pageable pageable) {
+    public Window<CustomerSummary> scrollSummaries(String name, ScrollPosition position, Sort sort, int limit) {
 
-        return customerJpaRepository.findByNameIgnoreCaseContaining(name, pageable).map(customerMapper::toDomain);
+        Window<CustomerSummaryRow> window = (name == null || name.isBlank())
+                ? customerJpaRepository.findSummaryRowsBy(position, sort, Limit.of(limit))
+                : customerJpaRepository.findSummaryRowsByNameIgnoreCaseContaining(name, position, sort, Limit.of(limit));
+
+        return window.map(CustomerSummaryRow::toSummary);
     }
 
     @Override
@@ -44,18 +282,28 @@ public class CustomerRepository implements ICustomerRepository {
     }
 
     @Override
-    public boolean existsByEmail(String email) {
-        return customerJpaRepository.existsByEmail(email);
+    public boolean existsById(UUID id) {
+        return customerJpaRepository.existsById(id);
     }
 
     @Override
-    public boolean existsByCpf(String cpf) {
-        return customerJpaRepository.existsByCpf(cpf);
+    public int deleteById(UUID id) {
+
+        return customerJpaRepository.deleteByCustomerId(id);
     }
 
     @Override
-    public void deleteById(UUID id) {
+    @Transactional
+    public int deleteAllById(Collection<UUID> ids) {
+
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        int deleted = 0;
+
+        for (int from = 0; from < distinctIds.size(); from += DELETE_BATCH_SIZE) {
+            int to = Math.min(from + DELETE_BATCH_SIZE, distinctIds.size());
+            deleted += customerJpaRepository.deleteByCustomerIdIn(distinctIds.subList(from, to));
+        }
 
-        customerJpaRepository.deleteById(id);
+        return deleted;
     }
 }
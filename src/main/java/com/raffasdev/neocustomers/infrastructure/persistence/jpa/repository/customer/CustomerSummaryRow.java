@@ -0,0 +1,15 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CustomerSummaryRow(UUID customerId, String name, String email, long cpf, long phone, LocalDate birthDate) {
+
+    public CustomerSummary toSummary() {
+
+        return new CustomerSummary(customerId, name, email, cpf, phone, BirthDate.reconstitute(birthDate).getAge());
+    }
+}
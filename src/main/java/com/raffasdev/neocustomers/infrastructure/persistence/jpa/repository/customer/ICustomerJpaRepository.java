@@ -1,18 +1,93 @@
 package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
 
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
-import lombok.NonNull;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ICustomerJpaRepository extends JpaRepository<CustomerEntity, UUID> {
 
-    Page<CustomerEntity> findByNameIgnoreCaseContaining(@NonNull String name, @NonNull Pageable pageable);
+    String SUMMARY_SELECT = "select new com.raffasdev.neocustomers.domain.model.customer.CustomerSummary("
+            + "c.customerId, c.name, c.email, c.cpf, c.phone, "
+            + "cast(extract(year from current_date) - extract(year from c.birthDate) - "
+            + "case when extract(month from current_date) * 100 + extract(day from current_date) "
+            + "< extract(month from c.birthDate) * 100 + extract(day from c.birthDate) then 1 else 0 end as Integer)) "
+            + "from CustomerEntity c";
+
+    @Query(value = SUMMARY_SELECT, countQuery = "select count(c) from CustomerEntity c")
+    Page<CustomerSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+            value = SUMMARY_SELECT + " where upper(c.name) like upper(:pattern) escape '\\'",
+            countQuery = "select count(c) from CustomerEntity c where upper(c.name) like upper(:pattern) escape '\\'")
+    Page<CustomerSummary> searchSummariesByName(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " where c.customerId in :ids")
+    List<CustomerSummary> findSummariesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query(SUMMARY_SELECT + " where c.customerId = :id")
+    Optional<CustomerSummary> findSummaryById(@Param("id") UUID id);
+
+    @Query(SUMMARY_SELECT)
+    Slice<CustomerSummary> findAllSummariesSlice(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " where upper(c.name) like upper(:pattern) escape '\\'")
+    Slice<CustomerSummary> searchSummariesSliceByName(@Param("pattern") String pattern, Pageable pageable);
+
+    long countByNameIgnoreCaseContaining(String name);
+
+    Window<CustomerSummaryRow> findSummaryRowsBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<CustomerSummaryRow> findSummaryRowsByNameIgnoreCaseContaining(String name, ScrollPosition position, Sort sort,
+                                                                          Limit limit);
+
+    @Query(
+            value = "select cast(customer_id as varchar) from customers where name ilike :pattern escape '\\'",
+            countQuery = "select count(*) from customers where name ilike :pattern escape '\\'",
+            nativeQuery = true)
+    Page<String> searchIdsByNameTrigram(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(
+            value = "select cast(customer_id as varchar) from customers where name ilike :pattern escape '\\'",
+            nativeQuery = true)
+    Slice<String> searchIdSliceByNameTrigram(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(value = "select count(*) from customers where name ilike :pattern escape '\\'", nativeQuery = true)
+    long countByNameTrigram(@Param("pattern") String pattern);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameRow("
+            + "c.customerId, c.name) from CustomerEntity c")
+    Stream<CustomerNameRow> streamAllNames();
 
-    boolean existsByEmail(String email);
+    @Transactional
+    @Modifying
+    @Query("delete from CustomerEntity c where c.customerId = :customerId")
+    int deleteByCustomerId(@Param("customerId") UUID customerId);
 
-    boolean existsByCpf(String cpf);
+    @Transactional
+    @Modifying
+    @Query("delete from CustomerEntity c where c.customerId in :customerIds")
+    int deleteByCustomerIdIn(@Param("customerIds") Collection<UUID> customerIds);
 }
@@ -0,0 +1,261 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+class NameNgramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+
+    private long[] mostSignificantBits;
+
+    private long[] leastSignificantBits;
+
+    private String[] names;
+
+    private int[] freeSlots = new int[16];
+
+    private int freeSlotCount;
+
+    private int slotCount;
+
+    NameNgramIndex(int initialCapacity) {
+
+        int capacity = Math.max(16, initialCapacity);
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.names = new String[capacity];
+    }
+
+    static String normalize(String name) {
+
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    int size() {
+
+        return slotsById.size();
+    }
+
+    void put(UUID id, String name) {
+
+        String normalized = normalize(name);
+        Integer existing = slotsById.get(id);
+
+        if (existing != null) {
+            if (normalized.equals(names[existing])) {
+                return;
+            }
+            this.unlink(existing);
+            this.link(existing, normalized);
+            return;
+        }
+
+        int slot = this.allocate();
+        mostSignificantBits[slot] = id.getMostSignificantBits();
+        leastSignificantBits[slot] = id.getLeastSignificantBits();
+        slotsById.put(id, slot);
+        this.link(slot, normalized);
+    }
+
+    void remove(UUID id) {
+
+        Integer slot = slotsById.remove(id);
+
+        if (slot == null) {
+            return;
+        }
+
+        this.unlink(slot);
+        names[slot] = null;
+
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    int[] search(String fragment) {
+
+        String normalized = normalize(fragment);
+
+        if (normalized.length() < GRAM_LENGTH) {
+            return this.scan(normalized);
+        }
+
+        Postings[] lists = new Postings[normalized.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < lists.length; i++) {
+            Postings list = postings.get(gram(normalized, i));
+            if (list == null) {
+                return EMPTY;
+            }
+            lists[i] = list;
+        }
+
+        Arrays.sort(lists, (left, right) -> Integer.compare(left.size, right.size));
+
+        int[] candidates = Arrays.copyOf(lists[0].slots, lists[0].size);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < lists.length && candidateCount > 0; i++) {
+            candidateCount = lists[i].retain(candidates, candidateCount);
+        }
+
+        int matchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (names[candidates[i]].contains(normalized)) {
+                candidates[matchCount++] = candidates[i];
+            }
+        }
+
+        return Arrays.copyOf(candidates, matchCount);
+    }
+
+    String nameAt(int slot) {
+
+        return names[slot];
+    }
+
+    UUID idAt(int slot) {
+
+        return new UUID(mostSignificantBits[slot], leastSignificantBits[slot]);
+    }
+
+    int compareIds(int left, int right) {
+
+        int comparison = Long.compareUnsigned(mostSignificantBits[left], mostSignificantBits[right]);
+
+        return comparison != 0
+                ? comparison
+                : Long.compareUnsigned(leastSignificantBits[left], leastSignificantBits[right]);
+    }
+
+    private int[] scan(String normalized) {
+
+        int[] matches = new int[16];
+        int matchCount = 0;
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (names[slot] != null && names[slot].contains(normalized)) {
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, matches.length * 2);
+                }
+                matches[matchCount++] = slot;
+            }
+        }
+
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    private int allocate() {
+
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+
+        if (slotCount == names.length) {
+            int capacity = names.length * 2;
+            mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+            leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+            names = Arrays.copyOf(names, capacity);
+        }
+
+        return slotCount++;
+    }
+
+    private void link(int slot, String normalized) {
+
+        names[slot] = normalized;
+
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            postings.computeIfAbsent(gram(normalized, i), key -> new Postings()).add(slot);
+        }
+    }
+
+    private void unlink(int slot) {
+
+        String normalized = names[slot];
+
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            long gram = gram(normalized, i);
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(slot) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static long gram(String normalized, int offset) {
+
+        return ((long) normalized.charAt(offset) << 32)
+                | ((long) normalized.charAt(offset + 1) << 16)
+                | normalized.charAt(offset + 2);
+    }
+
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+
+        private int size;
+
+        void add(int slot) {
+
+            int insertAt = size;
+
+            if (size > 0 && slots[size - 1] >= slot) {
+                int position = Arrays.binarySearch(slots, 0, size, slot);
+                if (position >= 0) {
+                    return;
+                }
+                insertAt = -position - 1;
+            }
+
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        boolean remove(int slot) {
+
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+
+            if (position < 0) {
+                return false;
+            }
+
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+
+            return true;
+        }
+
+        int retain(int[] candidates, int candidateCount) {
+
+            int retained = 0;
+            int cursor = 0;
+
+            for (int i = 0; i < candidateCount && cursor < size; i++) {
+                while (cursor < size && slots[cursor] < candidates[i]) {
+                    cursor++;
+                }
+                if (cursor < size && slots[cursor] == candidates[i]) {
+                    candidates[retained++] = candidates[i];
+                }
+            }
+
+            return retained;
+        }
+    }
+}
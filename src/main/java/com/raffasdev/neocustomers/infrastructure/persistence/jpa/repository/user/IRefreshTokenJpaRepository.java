@@ -0,0 +1,38 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user;
+
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IRefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    @Query("""
+            select r from RefreshTokenEntity r
+            join fetch r.user
+            where r.tokenHash = :tokenHash and r.expiresAt > :now
+            """)
+    Optional<RefreshTokenEntity> findActiveByTokenHash(@Param("tokenHash") String tokenHash,
+                                                       @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenEntity r where r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenEntity r where r.user.userId = :userId and r.expiresAt <= :now")
+    int deleteExpiredByUserId(@Param("userId") UUID userId, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshTokenEntity r where r.user.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,28 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user;
+
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IRevokedTokenJpaRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    String ROW_SELECT = "select new com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user."
+            + "RevokedTokenRow(r.tokenId, r.revokedAt) from RevokedTokenEntity r";
+
+    @Query(ROW_SELECT + " where r.expiresAt > :now")
+    List<RevokedTokenRow> findActiveTokens(@Param("now") Instant now);
+
+    @Query(ROW_SELECT + " where r.revokedAt >= :since")
+    List<RevokedTokenRow> findTokensRevokedSince(@Param("since") Instant since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedTokenEntity r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -2,6 +2,10 @@ package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.use
 
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -10,4 +14,17 @@ public interface IUserJpaRepository extends JpaRepository<UserEntity, UUID> {
     boolean existsByEmail(String email);
 
     Optional<UserEntity> findByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.password = :password where u.userId = :userId")
+    int updatePassword(@Param("userId") UUID userId, @Param("password") String password);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update UserEntity u set u.tokenVersion = u.tokenVersion + 1
+            where u.userId = :userId and u.tokenVersion = :tokenVersion
+            """)
+    int incrementTokenVersion(@Param("userId") UUID userId, @Param("tokenVersion") long tokenVersion);
 }
\ No newline at end of file
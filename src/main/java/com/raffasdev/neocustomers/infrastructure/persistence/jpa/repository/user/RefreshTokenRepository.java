@@ -0,0 +1,53 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user;
+
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import com.raffasdev.neocustomers.domain.model.user.IRefreshTokenRepository;
+import com.raffasdev.neocustomers.domain.model.user.User;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.RefreshTokenEntity;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository implements IRefreshTokenRepository {
+
+    private final IRefreshTokenJpaRepository jpaRepository;
+
+    private final IUserJpaRepository userJpaRepository;
+
+    private final UserMapper userMapper;
+
+    @Override
+    public void save(String tokenHash, EntityId userId, Instant expiresAt) {
+        jpaRepository.save(RefreshTokenEntity.create(
+                tokenHash,
+                userJpaRepository.getReferenceById(userId.getValue()),
+                expiresAt
+        ));
+    }
+
+    @Override
+    public Optional<User> findUserByActiveTokenHash(String tokenHash, Instant now) {
+        return jpaRepository.findActiveByTokenHash(tokenHash, now)
+                .map(refreshToken -> userMapper.toDomain(refreshToken.getUser()));
+    }
+
+    @Override
+    public boolean deleteByTokenHash(String tokenHash) {
+        return jpaRepository.deleteByTokenHash(tokenHash) > 0;
+    }
+
+    @Override
+    public int deleteExpiredByUserId(EntityId userId, Instant now) {
+        return jpaRepository.deleteExpiredByUserId(userId.getValue(), now);
+    }
+
+    @Override
+    public int deleteByUserId(EntityId userId) {
+        return jpaRepository.deleteByUserId(userId.getValue());
+    }
+}
@@ -0,0 +1,6 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user;
+
+import java.time.Instant;
+
+public record RevokedTokenRow(String tokenId, Instant revokedAt) {
+}
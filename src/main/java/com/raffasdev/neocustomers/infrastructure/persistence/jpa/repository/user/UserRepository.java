@@ -1,5 +1,6 @@
 package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user;
 
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
 import com.raffasdev.neocustomers.domain.model.user.IUserRepository;
 import com.raffasdev.neocustomers.domain.model.user.User;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.mapper.UserMapper;
@@ -31,4 +32,14 @@ public class UserRepository implements IUserRepository {
         return userMapper.toOptionalDomain(jpaRepository.findByEmail(email));
     }
 
+    @Override
+    public void updatePassword(EntityId userId, String encodedPassword) {
+        jpaRepository.updatePassword(userId.getValue(), encodedPassword);
+    }
+
+    @Override
+    public boolean incrementTokenVersion(EntityId userId, long expectedTokenVersion) {
+        return jpaRepository.incrementTokenVersion(userId.getValue(), expectedTokenVersion) > 0;
+    }
+
 }
\ No newline at end of file
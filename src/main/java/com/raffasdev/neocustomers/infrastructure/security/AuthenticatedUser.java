@@ -0,0 +1,8 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+
+import java.util.Set;
+
+public record AuthenticatedUser(String email, Set<Role> roles, long tokenVersion) {
+}
@@ -0,0 +1,71 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+public final class BCryptCostCalibrator {
+
+    private static final int PROBE_COST = 8;
+
+    private static final int SAMPLES = 5;
+
+    private static final String UNKNOWN_COST = "unknown";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration latencyBudget, int minCost, int maxCost) {
+
+        return calibrate(latencyBudget, minCost, maxCost, BCryptCostCalibrator::measureHashNanos);
+    }
+
+    static int calibrate(Duration latencyBudget, int minCost, int maxCost, IntToLongFunction hashNanos) {
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = hashNanos.applyAsLong(PROBE_COST);
+        }
+        Arrays.sort(samples);
+
+        long estimate = Math.max(1, samples[SAMPLES / 2]);
+        long budget = latencyBudget.toNanos();
+        int cost = PROBE_COST;
+
+        while (cost < maxCost && estimate * 2 <= budget) {
+            cost++;
+            estimate *= 2;
+        }
+
+        return Math.min(maxCost, Math.max(minCost, cost));
+    }
+
+    public static String costOf(String encodedPassword) {
+
+        if (encodedPassword == null) {
+            return UNKNOWN_COST;
+        }
+
+        int start = encodedPassword.startsWith("{bcrypt}") ? "{bcrypt}".length() : 0;
+
+        if (encodedPassword.length() < start + 7
+                || encodedPassword.charAt(start) != '$'
+                || encodedPassword.charAt(start + 3) != '$'
+                || encodedPassword.charAt(start + 6) != '$') {
+            return UNKNOWN_COST;
+        }
+
+        return encodedPassword.substring(start + 4, start + 6);
+    }
+
+    private static long measureHashNanos(int cost) {
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+
+        return System.nanoTime() - start;
+    }
+}
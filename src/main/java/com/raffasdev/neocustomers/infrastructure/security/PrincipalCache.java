@@ -0,0 +1,47 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.UserEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserEntity> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "principalCache");
+    }
+
+    public Optional<UserEntity> get(String email, Function<String, Optional<UserEntity>> loader) {
+
+        return Optional.ofNullable(cache.get(email, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void invalidate(String email) {
+
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,39 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class RoleAuthorities {
+
+    private static final Map<Integer, List<GrantedAuthority>> AUTHORITIES_BY_MASK = new ConcurrentHashMap<>();
+
+    private RoleAuthorities() {
+    }
+
+    public static List<GrantedAuthority> of(Set<Role> roles) {
+
+        return of(Role.toMask(roles));
+    }
+
+    public static List<GrantedAuthority> of(int roleMask) {
+
+        List<GrantedAuthority> authorities = AUTHORITIES_BY_MASK.get(roleMask);
+
+        return authorities != null
+                ? authorities
+                : AUTHORITIES_BY_MASK.computeIfAbsent(roleMask, RoleAuthorities::toAuthorities);
+    }
+
+    private static List<GrantedAuthority> toAuthorities(int roleMask) {
+
+        return Role.fromMask(roleMask).stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.name()))
+                .toList();
+    }
+}
@@ -6,8 +6,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -16,36 +16,76 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@AllArgsConstructor
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
 
     private final IUserJpaRepository userRepository;
 
+    private final PrincipalCache principalCache;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final boolean statelessAuthorization;
+
+    public SecurityFilter(TokenService tokenService, IUserJpaRepository userRepository, PrincipalCache principalCache,
+                          TokenRevocationList tokenRevocationList,
+                          @Value("${spring.jwt.stateless-authorization:false}") boolean statelessAuthorization) {
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.statelessAuthorization = statelessAuthorization;
+    }
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         var token = this.recoverToken(request);
-        var email = this.tokenService.validateToken(token);
+        var verifiedToken = this.tokenService.verify(token);
 
-        if (email != null) {
+        if (verifiedToken != null
+                && !tokenRevocationList.isRevoked(verifiedToken.tokenId())
+                && !tokenRevocationList.isRevoked(verifiedToken.versionId())) {
 
-            UserEntity userEntity = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            var authentication = (statelessAuthorization && verifiedToken.hasClaims())
+                    ? this.authenticateFromClaims(verifiedToken)
+                    : this.authenticateFromDatabase(verifiedToken);
 
-            var authentication = new UsernamePasswordAuthenticationToken(
-                    userEntity,
-                    null,
-                    userEntity.getAuthorities());
-            
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(VerifiedToken verifiedToken) {
+
+        var principal = new AuthenticatedUser(
+                verifiedToken.subject(),
+                verifiedToken.roles(),
+                verifiedToken.tokenVersion());
+
+        return new UsernamePasswordAuthenticationToken(principal, null, RoleAuthorities.of(verifiedToken.roles()));
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromDatabase(VerifiedToken verifiedToken) {
+
+        UserEntity userEntity = principalCache.get(verifiedToken.subject(), userRepository::findByEmail)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        if (verifiedToken.tokenVersion() != null && verifiedToken.tokenVersion() != userEntity.getTokenVersion()) {
+            return null;
+        }
+
+        return new UsernamePasswordAuthenticationToken(
+                userEntity,
+                null,
+                userEntity.getAuthorities());
+    }
+
     private String recoverToken(HttpServletRequest request) {
 
         var authHeader = request.getHeader("Authorization");
@@ -0,0 +1,138 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.RevokedTokenEntity;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.IRevokedTokenJpaRepository;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.RevokedTokenRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class TokenRevocationList {
+
+    private static final Duration WATERMARK_OVERLAP = Duration.ofSeconds(5);
+
+    private final IRevokedTokenJpaRepository repository;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private final Counter notRevokedLookups;
+
+    private final Counter revokedLookups;
+
+    private final Counter falsePositiveLookups;
+
+    private final Object lock = new Object();
+
+    private volatile BloomFilter filter;
+
+    private Instant watermark = Instant.EPOCH;
+
+    public TokenRevocationList(IRevokedTokenJpaRepository repository,
+                               @Value("${security.token-revocation.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${security.token-revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        this.notRevokedLookups = this.lookupCounter(meterRegistry, "not_revoked");
+        this.revokedLookups = this.lookupCounter(meterRegistry, "revoked");
+        this.falsePositiveLookups = this.lookupCounter(meterRegistry, "false_positive");
+    }
+
+    public boolean isRevoked(String tokenId) {
+
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            notRevokedLookups.increment();
+            return false;
+        }
+
+        boolean revoked = repository.existsById(tokenId);
+        (revoked ? revokedLookups : falsePositiveLookups).increment();
+
+        return revoked;
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+
+        try {
+            repository.save(RevokedTokenEntity.create(tokenId, expiresAt, Instant.now()));
+        } catch (DataIntegrityViolationException e) {
+            // already revoked, possibly by another instance
+        }
+
+        synchronized (lock) {
+            filter.put(tokenId);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.token-revocation.refresh-interval:30s}",
+            fixedDelayString = "${security.token-revocation.refresh-interval:30s}")
+    public void refresh() {
+
+        synchronized (lock) {
+            this.catchUp(filter);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${security.token-revocation.rebuild-interval:1h}",
+            fixedDelayString = "${security.token-revocation.rebuild-interval:1h}")
+    public void rebuild() {
+
+        Instant now = Instant.now();
+        repository.deleteExpired(now);
+
+        List<RevokedTokenRow> activeTokens = repository.findActiveTokens(now);
+        BloomFilter rebuilt = BloomFilter.create(
+                Math.max(expectedInsertions, 2L * activeTokens.size()),
+                falsePositiveRate);
+        Instant newest = this.putAll(rebuilt, activeTokens, Instant.EPOCH);
+
+        synchronized (lock) {
+            this.filter = rebuilt;
+            this.watermark = newest;
+            this.catchUp(rebuilt);
+        }
+    }
+
+    private void catchUp(BloomFilter target) {
+
+        List<RevokedTokenRow> revoked = repository.findTokensRevokedSince(watermark.minus(WATERMARK_OVERLAP));
+        this.watermark = this.putAll(target, revoked, watermark);
+    }
+
+    private Instant putAll(BloomFilter target, List<RevokedTokenRow> rows, Instant newest) {
+
+        for (RevokedTokenRow row : rows) {
+            target.put(row.tokenId());
+            if (row.revokedAt().isAfter(newest)) {
+                newest = row.revokedAt();
+            }
+        }
+
+        return newest;
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+
+        return Counter.builder("token.revocation.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
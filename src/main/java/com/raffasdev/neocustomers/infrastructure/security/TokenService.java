@@ -1,36 +1,90 @@
 package com.raffasdev.neocustomers.infrastructure.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.raffasdev.neocustomers.application.gateway.TokenGenerator;
+import com.raffasdev.neocustomers.domain.model.user.User;
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 public class TokenService implements TokenGenerator {
 
+    private static final String ISSUER = "neoCustomers";
+
+    private static final String ROLES_CLAIM = "roles";
+
+    private static final String VERSION_CLAIM = "ver";
+
     @Value("${spring.jwt.secret.key}")
     private String secretKey;
 
     @Value("${spring.jwt.expiration.minutes}")
     private long expirationMinutes;
 
+    @Value("${spring.jwt.verified-cache.maximum-size:1024}")
+    private long verifiedCacheMaximumSize;
+
+    @Value("${spring.jwt.verified-cache.ttl:5m}")
+    private Duration verifiedCacheTtl;
+
+    private volatile SigningKey signingKey;
+
+    @PostConstruct
+    void init() {
+
+        this.rotateKey(secretKey);
+    }
+
+    public void rotateKey(String secretKey) {
+
+        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+        JWTVerifier verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+
+        Cache<String, VerifiedToken> verifiedTokens = verifiedCacheMaximumSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheMaximumSize)
+                        .expireAfterWrite(verifiedCacheTtl)
+                        .build()
+                : null;
+
+        this.signingKey = new SigningKey(algorithm, verifier, verifiedTokens);
+    }
+
     @Override
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
+            List<String> roles = user.getRoles().stream()
+                    .map(Role::name)
+                    .toList();
 
             return JWT.create()
-                    .withIssuer("neoCustomers")
-                    .withSubject(email)
+                    .withIssuer(ISSUER)
+                    .withJWTId(UUID.randomUUID().toString())
+                    .withSubject(user.getEmail())
+                    .withClaim(ROLES_CLAIM, roles)
+                    .withClaim(VERSION_CLAIM, user.getTokenVersion())
                     .withExpiresAt(this.generateTokenExpirationDate())
-                    .sign(algorithm);
+                    .sign(signingKey.algorithm());
         } catch (JWTCreationException e) {
             throw new RuntimeException("Error while authenticating");
         }
@@ -38,22 +92,77 @@ public class TokenService implements TokenGenerator {
 
     @Override
     public String validateToken(String token) {
+
+        VerifiedToken verifiedToken = this.verify(token);
+
+        return verifiedToken != null ? verifiedToken.subject() : null;
+    }
+
+    public VerifiedToken verify(String token) {
+
+        if (token == null) {
+            return null;
+        }
+
+        SigningKey key = this.signingKey;
+        Cache<String, VerifiedToken> verifiedTokens = key.verifiedTokens();
+
+        if (verifiedTokens != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(token);
+
+            if (cached != null) {
+                if (cached.isExpired(Instant.now())) {
+                    verifiedTokens.invalidate(token);
+                    return null;
+                }
+                return cached;
+            }
+        }
+
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
+            DecodedJWT decodedJWT = key.verifier().verify(token);
+            VerifiedToken verifiedToken = new VerifiedToken(
+                    decodedJWT.getId(),
+                    decodedJWT.getSubject(),
+                    this.toRoles(decodedJWT.getClaim(ROLES_CLAIM).asList(String.class)),
+                    decodedJWT.getClaim(VERSION_CLAIM).asLong(),
+                    decodedJWT.getExpiresAtAsInstant()
+            );
 
-            return JWT.require(algorithm)
-                    .withIssuer("neoCustomers")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            if (verifiedTokens != null) {
+                verifiedTokens.put(token, verifiedToken);
+            }
 
-        } catch (JWTVerificationException e) {
+            return verifiedToken;
+        } catch (JWTVerificationException | IllegalArgumentException e) {
             return null;
         }
     }
 
+    public Instant maxExpiresAt() {
+
+        return this.generateTokenExpirationDate();
+    }
+
+    private Set<Role> toRoles(List<String> roleNames) {
+
+        if (roleNames == null) {
+            return null;
+        }
+
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (String roleName : roleNames) {
+            roles.add(Role.valueOf(roleName));
+        }
+
+        return roles;
+    }
+
     private Instant generateTokenExpirationDate() {
 
         return LocalDateTime.now().plusMinutes(this.expirationMinutes).atZone(ZoneOffset.of("-3")).toInstant();
     }
+
+    private record SigningKey(Algorithm algorithm, JWTVerifier verifier, Cache<String, VerifiedToken> verifiedTokens) {
+    }
 }
@@ -0,0 +1,31 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record VerifiedToken(String tokenId, String subject, Set<Role> roles, Long tokenVersion, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    public boolean hasClaims() {
+
+        return roles != null && tokenVersion != null;
+    }
+
+    public String versionId() {
+
+        return tokenVersion != null ? versionId(subject, tokenVersion) : null;
+    }
+
+    public static String versionId(String subject, long tokenVersion) {
+
+        return UUID.nameUUIDFromBytes((subject + ":" + tokenVersion).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import com.raffasdev.neocustomers.application.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class AuthRateLimiter {
+
+    private static final List<String> SCOPES = List.of("ip", "email");
+
+    private final RateLimitStore store;
+
+    private final RateLimitProperties properties;
+
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public AuthRateLimiter(RateLimitStore store, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+
+        if (properties.endpoints() != null) {
+            for (String endpoint : properties.endpoints().keySet()) {
+                for (String scope : SCOPES) {
+                    this.registerCounter(meterRegistry, endpoint, scope, true);
+                    this.registerCounter(meterRegistry, endpoint, scope, false);
+                }
+            }
+        }
+    }
+
+    public HttpHeaders check(String endpoint, String clientIp, String email) {
+
+        HttpHeaders headers = new HttpHeaders();
+
+        if (!properties.enabled() || properties.endpoints() == null) {
+            return headers;
+        }
+
+        RateLimitProperties.EndpointLimits limits = properties.endpoints().get(endpoint);
+
+        if (limits == null) {
+            return headers;
+        }
+
+        RateLimitDecision tightest = null;
+
+        if (limits.perIp() != null && clientIp != null) {
+            tightest = this.consume(endpoint, "ip", clientIp, limits.perIp());
+            this.rejectIfDenied(tightest);
+        }
+
+        if (limits.perEmail() != null && email != null) {
+            RateLimitDecision decision = this.consume(endpoint, "email", email.toLowerCase(Locale.ROOT), limits.perEmail());
+
+            if (!decision.allowed() && tightest != null) {
+                store.refund(this.bucketKey(endpoint, "ip", clientIp), limits.perIp());
+            }
+            this.rejectIfDenied(decision);
+
+            if (tightest == null || decision.remaining() < tightest.remaining()) {
+                tightest = decision;
+            }
+        }
+
+        if (tightest != null) {
+            headers.set("RateLimit-Limit", String.valueOf(tightest.limit()));
+            headers.set("RateLimit-Remaining", String.valueOf(tightest.remaining()));
+            headers.set("RateLimit-Reset", String.valueOf(tightest.resetSeconds()));
+        }
+
+        return headers;
+    }
+
+    private RateLimitDecision consume(String endpoint, String scope, String value,
+                                      RateLimitProperties.BucketLimit limit) {
+
+        RateLimitDecision decision = store.tryConsume(this.bucketKey(endpoint, scope, value), limit);
+
+        counters.get(this.counterKey(endpoint, scope, decision.allowed())).increment();
+
+        return decision;
+    }
+
+    private void rejectIfDenied(RateLimitDecision decision) {
+
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(decision.limit(), decision.retryAfterSeconds());
+        }
+    }
+
+    private String bucketKey(String endpoint, String scope, String value) {
+
+        return endpoint + ':' + scope + ':' + value;
+    }
+
+    private void registerCounter(MeterRegistry meterRegistry, String endpoint, String scope, boolean allowed) {
+
+        Counter counter = Counter.builder("auth.rate-limit.requests")
+                .tag("endpoint", endpoint)
+                .tag("scope", scope)
+                .tag("result", allowed ? "allowed" : "rejected")
+                .register(meterRegistry);
+
+        counters.put(this.counterKey(endpoint, scope, allowed), counter);
+    }
+
+    private String counterKey(String endpoint, String scope, boolean allowed) {
+
+        return endpoint + ':' + scope + ':' + allowed;
+    }
+}
@@ -0,0 +1,55 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    private final LongSupplier nanoClock;
+
+    public InMemoryRateLimitStore(long maximumBuckets, Duration idleTtl) {
+        this(maximumBuckets, idleTtl, System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(long maximumBuckets, Duration idleTtl, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(idleTtl)
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitProperties.BucketLimit limit) {
+
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long interval = limit.emissionIntervalNanos();
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            RateLimitDecision decision = RateLimitDecision.evaluate(limit, current, now);
+
+            if (!decision.allowed()
+                    || theoreticalArrival.compareAndSet(current, Math.max(current, now) + interval)) {
+                return decision;
+            }
+        }
+    }
+
+    @Override
+    public void refund(String key, RateLimitProperties.BucketLimit limit) {
+
+        AtomicLong theoreticalArrival = buckets.getIfPresent(key);
+
+        if (theoreticalArrival != null) {
+            theoreticalArrival.addAndGet(-limit.emissionIntervalNanos());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private static final int MAX_ATTEMPTS = 8;
+
+    private static final String CREATE_TABLE_SQL = """
+            create table if not exists rate_limit_buckets (
+                bucket_key varchar(255) primary key,
+                tat_nanos bigint not null
+            )
+            """;
+
+    private static final String SELECT_SQL = "select tat_nanos from rate_limit_buckets where bucket_key = ?";
+
+    private static final String INSERT_SQL =
+            "insert into rate_limit_buckets (bucket_key, tat_nanos) values (?, ?) on conflict do nothing";
+
+    private static final String UPDATE_SQL =
+            "update rate_limit_buckets set tat_nanos = ? where bucket_key = ? and tat_nanos = ?";
+
+    private static final String REFUND_SQL =
+            "update rate_limit_buckets set tat_nanos = tat_nanos - ? where bucket_key = ?";
+
+    private static final String PURGE_SQL = "delete from rate_limit_buckets where tat_nanos < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Clock clock;
+
+    public JdbcRateLimitStore(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.jdbcTemplate.execute(CREATE_TABLE_SQL);
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitProperties.BucketLimit limit) {
+
+        String bucketKey = this.hash(key);
+        long now = this.nowNanos();
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Long current = jdbcTemplate.query(SELECT_SQL, rs -> rs.next() ? rs.getLong(1) : null, bucketKey);
+            RateLimitDecision decision = RateLimitDecision.evaluate(limit, current != null ? current : now, now);
+
+            if (!decision.allowed()) {
+                return decision;
+            }
+
+            long next = Math.max(current != null ? current : now, now) + limit.emissionIntervalNanos();
+            int updated = (current == null)
+                    ? jdbcTemplate.update(INSERT_SQL, bucketKey, next)
+                    : jdbcTemplate.update(UPDATE_SQL, next, bucketKey, current);
+
+            if (updated > 0) {
+                return decision;
+            }
+        }
+
+        return new RateLimitDecision(false, limit.capacity(), 0, 0, 0);
+    }
+
+    @Override
+    public void refund(String key, RateLimitProperties.BucketLimit limit) {
+
+        jdbcTemplate.update(REFUND_SQL, limit.emissionIntervalNanos(), this.hash(key));
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.idle-ttl:10m}")
+    public void purgeIdleBuckets() {
+
+        jdbcTemplate.update(PURGE_SQL, this.nowNanos());
+    }
+
+    private String hash(String key) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private long nowNanos() {
+
+        Instant now = clock.instant();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
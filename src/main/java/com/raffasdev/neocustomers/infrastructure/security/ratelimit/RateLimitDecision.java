@@ -0,0 +1,35 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long retryAfterNanos, long resetNanos) {
+
+    static RateLimitDecision evaluate(RateLimitProperties.BucketLimit limit, long theoreticalArrival, long now) {
+
+        long interval = limit.emissionIntervalNanos();
+        long period = limit.period().toNanos();
+        long next = Math.max(theoreticalArrival, now) + interval;
+        long allowAt = next - period;
+
+        if (allowAt > now) {
+            return new RateLimitDecision(false, limit.capacity(), 0, allowAt - now, allowAt - now);
+        }
+
+        return new RateLimitDecision(true, limit.capacity(), (period - (next - now)) / interval, 0, next - now);
+    }
+
+    public long retryAfterSeconds() {
+
+        return Math.max(1, this.ceilSeconds(retryAfterNanos));
+    }
+
+    public long resetSeconds() {
+
+        return this.ceilSeconds(resetNanos);
+    }
+
+    private long ceilSeconds(long nanos) {
+
+        return TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties("security.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("memory") Store store,
+        @DefaultValue("100000") long maximumBuckets,
+        @DefaultValue("10m") Duration idleTtl,
+        Map<String, EndpointLimits> endpoints) {
+
+    public enum Store {
+        MEMORY,
+        JDBC
+    }
+
+    public record EndpointLimits(BucketLimit perIp, BucketLimit perEmail) {
+    }
+
+    public record BucketLimit(long capacity, Duration period) {
+
+        public BucketLimit {
+            if (capacity <= 0 || period == null || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("Rate limit capacity and period must be positive");
+            }
+        }
+
+        long emissionIntervalNanos() {
+            return Math.max(1, period.toNanos() / capacity);
+        }
+    }
+}
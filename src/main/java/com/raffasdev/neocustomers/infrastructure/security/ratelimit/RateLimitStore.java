@@ -0,0 +1,8 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+public interface RateLimitStore {
+
+    RateLimitDecision tryConsume(String key, RateLimitProperties.BucketLimit limit);
+
+    void refund(String key, RateLimitProperties.BucketLimit limit);
+}
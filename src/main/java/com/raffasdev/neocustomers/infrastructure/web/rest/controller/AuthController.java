@@ -1,22 +1,29 @@
 package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
 
+import com.raffasdev.neocustomers.domain.model.user.AuthTokens;
 import com.raffasdev.neocustomers.domain.model.user.IAuthService;
 import com.raffasdev.neocustomers.domain.model.user.User;
+import com.raffasdev.neocustomers.infrastructure.security.ratelimit.AuthRateLimiter;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.request.LoginUserRequest;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.request.RefreshTokenRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.request.RegisterUserRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response.LoginUserResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response.RefreshTokenResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response.RegisterUserResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.UserDtoMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,6 +37,8 @@ public class AuthController {
 
     private final UserDtoMapper userDtoMapper;
 
+    private final AuthRateLimiter authRateLimiter;
+
     @Operation(
             summary = "Registra um novo usuário no sistema",
             description = "Cria uma nova identidade de usuário (operador) que poderá se autenticar para usar a API."
@@ -37,11 +46,15 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Usuário registrado com sucesso"),
             @ApiResponse(responseCode = "400", description = "Dados de requisição inválidos (ex: email com formato incorreto, senha não bate)"),
-            @ApiResponse(responseCode = "409", description = "Email ou nome de usuário já cadastrado")
+            @ApiResponse(responseCode = "409", description = "Email ou nome de usuário já cadastrado"),
+            @ApiResponse(responseCode = "429", description = "Limite de requisições excedido para o IP ou email, tente novamente após o Retry-After"),
+            @ApiResponse(responseCode = "503", description = "Muitas requisições de autenticação simultâneas, tente novamente após o Retry-After")
     })
     @PostMapping("/register")
     public ResponseEntity<RegisterUserResponse> registerUser(
-            @RequestBody @Valid RegisterUserRequest registerUserRequest) {
+            @RequestBody @Valid RegisterUserRequest registerUserRequest, HttpServletRequest request) {
+
+        HttpHeaders rateLimitHeaders = authRateLimiter.check("register", request.getRemoteAddr(), registerUserRequest.getEmail());
 
         User userRegistered = authService.registerUser(
                 registerUserRequest.getName(),
@@ -52,31 +65,106 @@ public class AuthController {
 
         return new ResponseEntity<>(
                 userDtoMapper.toRegisterUserResponse(userRegistered),
+                rateLimitHeaders,
                 HttpStatus.CREATED
         );
     }
 
     @Operation(
             summary = "Autentica um usuário e retorna um token JWT",
-            description = "Valida as credenciais de um usuário e, se bem-sucedido, retorna um token de acesso para ser usado nos endpoints protegidos."
+            description = "Valida as credenciais de um usuário e, se bem-sucedido, retorna um token de acesso para ser usado nos endpoints protegidos e um refresh token para renová-lo."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Autenticação bem-sucedida, token retornado"),
-            @ApiResponse(responseCode = "401", description = "Credenciais inválidas (email ou senha incorretos)")
+            @ApiResponse(responseCode = "200", description = "Autenticação bem-sucedida, tokens retornados"),
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas (email ou senha incorretos)"),
+            @ApiResponse(responseCode = "429", description = "Limite de requisições excedido para o IP ou email, tente novamente após o Retry-After"),
+            @ApiResponse(responseCode = "503", description = "Muitas requisições de autenticação simultâneas, tente novamente após o Retry-After")
     })
     @PostMapping("/login")
     public ResponseEntity<LoginUserResponse> loginUser(
-            @RequestBody @Valid LoginUserRequest loginUserRequest) {
+            @RequestBody @Valid LoginUserRequest loginUserRequest, HttpServletRequest request) {
+
+        HttpHeaders rateLimitHeaders = authRateLimiter.check("login", request.getRemoteAddr(), loginUserRequest.getEmail());
 
-        String token = authService.loginUser(
+        AuthTokens tokens = authService.loginUser(
                 loginUserRequest.getEmail(),
                 loginUserRequest.getPassword()
         );
 
         return new ResponseEntity<>(
-                new LoginUserResponse(loginUserRequest.getEmail(), token),
+                new LoginUserResponse(loginUserRequest.getEmail(), tokens.accessToken(), tokens.refreshToken()),
+                rateLimitHeaders,
+                HttpStatus.OK
+        );
+    }
+
+    @Operation(
+            summary = "Renova o token JWT a partir de um refresh token",
+            description = "Troca um refresh token válido por um novo token de acesso e um novo refresh token, sem validar a senha novamente. O refresh token utilizado é invalidado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens renovados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Refresh token não informado"),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado ou já utilizado"),
+            @ApiResponse(responseCode = "429", description = "Limite de requisições excedido para o IP, tente novamente após o Retry-After")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<RefreshTokenResponse> refreshTokens(
+            @RequestBody @Valid RefreshTokenRequest refreshTokenRequest, HttpServletRequest request) {
+
+        HttpHeaders rateLimitHeaders = authRateLimiter.check("refresh", request.getRemoteAddr(), null);
+
+        AuthTokens tokens = authService.refreshTokens(refreshTokenRequest.getRefreshToken());
+
+        return new ResponseEntity<>(
+                new RefreshTokenResponse(tokens.accessToken(), tokens.refreshToken()),
+                rateLimitHeaders,
                 HttpStatus.OK
         );
     }
 
+    @Operation(
+            summary = "Encerra a sessão revogando os tokens informados",
+            description = "Revoga o token JWT enviado no header Authorization antes da sua expiração e, se informado no corpo, invalida também o refresh token."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revogados")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logoutUser(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+
+        authService.logoutUser(
+                this.bearerToken(authorization),
+                refreshTokenRequest != null ? refreshTokenRequest.getRefreshToken() : null
+        );
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Encerra todas as sessões do usuário",
+            description = "Incrementa a versão de token do usuário dono do JWT enviado no header Authorization, invalidando todos os tokens de acesso emitidos até agora, e apaga todos os seus refresh tokens."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Todas as sessões encerradas"),
+            @ApiResponse(responseCode = "401", description = "Token de acesso ausente, inválido, expirado ou revogado")
+    })
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAllSessions(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+
+        authService.logoutAllSessions(this.bearerToken(authorization));
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private String bearerToken(String authorization) {
+
+        return (authorization != null && authorization.startsWith("Bearer "))
+                ? authorization.substring("Bearer ".length())
+                : null;
+    }
+
 }
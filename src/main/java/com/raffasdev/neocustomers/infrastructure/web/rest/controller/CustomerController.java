@@ -1,11 +1,19 @@
 package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
 
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerCount;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.domain.model.customer.ICustomerApplicationService;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.CursorPageResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.SlicePageResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.TotalMode;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.request.DeleteCustomersRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.request.RegisterCustomerRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.request.UpdateCustomerRequest;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.DeleteCustomersResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.GetCustomerResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.RegisterCustomerResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.CustomerCursorCodec;
 import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.CustomerDtoMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,10 +24,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -29,10 +42,14 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class CustomerController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final ICustomerApplicationService customerService;
 
     private final CustomerDtoMapper customerDtoMapper;
 
+    private final CustomerCursorCodec customerCursorCodec;
+
     @Operation(summary = "Cria um novo cliente")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Cliente criado com sucesso"),
@@ -66,19 +83,94 @@ public class CustomerController {
     @GetMapping
     public ResponseEntity<Page<GetCustomerResponse>> findAll(@RequestParam(required = false) String name,
                                                              Pageable pageable) {
-        Page<Customer> customerPage;
+        Page<CustomerSummary> customerPage;
 
         if (name != null && !name.isBlank()) {
 
-            customerPage = customerService.searchByName(name, pageable);
+            customerPage = customerService.searchSummariesByName(name, pageable);
         } else {
 
-            customerPage = customerService.findAll(pageable);
+            customerPage = customerService.findAllSummaries(pageable);
         }
 
         return ResponseEntity.ok(customerPage.map(customerDtoMapper::toCustomerGetResponse));
     }
 
+    @Operation(
+            summary = "Lista clientes escolhendo como o total é calculado",
+            description = "total=EXACT executa count(*), total=APPROXIMATE usa a estimativa do PostgreSQL " +
+                    "(cai para EXACT quando não há estimativa) e total=NONE retorna apenas hasNext. " +
+                    "O campo totalMode da resposta informa o modo efetivamente usado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Modo de total inválido")
+    })
+    @GetMapping(params = {"total", "!cursor"})
+    public ResponseEntity<SlicePageResponse<GetCustomerResponse>> list(@RequestParam(required = false) String name,
+                                                                       @RequestParam TotalMode total,
+                                                                       Pageable pageable) {
+        boolean byName = name != null && !name.isBlank();
+
+        if (total == TotalMode.EXACT) {
+            Page<CustomerSummary> customerPage = byName
+                    ? customerService.searchSummariesByName(name, pageable)
+                    : customerService.findAllSummaries(pageable);
+
+            return ResponseEntity.ok(this.toSlicePageResponse(
+                    customerPage.map(customerDtoMapper::toCustomerGetResponse),
+                    customerPage.getTotalElements(),
+                    TotalMode.EXACT));
+        }
+
+        Slice<GetCustomerResponse> customerSlice = (byName
+                ? customerService.searchSummariesSliceByName(name, pageable)
+                : customerService.findAllSummariesSlice(pageable))
+                .map(customerDtoMapper::toCustomerGetResponse);
+
+        if (total == TotalMode.NONE) {
+            return ResponseEntity.ok(this.toSlicePageResponse(customerSlice, null, TotalMode.NONE));
+        }
+
+        CustomerCount count = customerService.count(name, true);
+
+        return ResponseEntity.ok(this.toSlicePageResponse(customerSlice, count.value(),
+                count.approximate() ? TotalMode.APPROXIMATE : TotalMode.EXACT));
+    }
+
+    @Operation(
+            summary = "Lista clientes por cursor",
+            description = "Paginação por cursor (keyset), sem contagem total. Envie cursor vazio para a primeira " +
+                    "página e o valor de 'next' para as seguintes; a ordenação fica registrada no cursor."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos")
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<GetCustomerResponse>> scroll(@RequestParam(required = false) String name,
+                                                                          @RequestParam String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                          Sort sort) {
+        CustomerCursorCodec.Cursor position = cursor.isBlank()
+                ? new CustomerCursorCodec.Cursor(customerCursorCodec.toKeysetSort(sort), ScrollPosition.keyset())
+                : customerCursorCodec.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        Window<CustomerSummary> window =
+                customerService.scrollSummaries(name, position.position(), position.sort(), limit);
+
+        String next = window.hasNext() && !window.isEmpty()
+                ? customerCursorCodec.encode(position.sort(), window.positionAt(window.size() - 1))
+                : null;
+
+        return ResponseEntity.ok(new CursorPageResponse<>(
+                window.map(customerDtoMapper::toCustomerGetResponse).getContent(),
+                window.size(),
+                next
+        ));
+    }
+
     @Operation(summary = "Busca um cliente por ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cliente encontrado"),
@@ -87,16 +179,16 @@ public class CustomerController {
     @GetMapping("/{id}")
     public ResponseEntity<GetCustomerResponse> findById(@PathVariable UUID id) {
 
-        return  ResponseEntity.ok(customerDtoMapper.toCustomerGetResponse(customerService.findById(id)));
+        return  ResponseEntity.ok(customerDtoMapper.toCustomerGetResponse(customerService.findSummaryById(id)));
     }
 
-    @Operation(summary = "Atualiza um cliente existente")
+    @Operation(summary = "Atualiza parcialmente um cliente existente (apenas os campos informados)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Cliente atualizado com sucesso"),
             @ApiResponse(responseCode = "400", description = "Dados de requisição inválidos"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado para o ID fornecido")
     })
-    @PutMapping("/{id}")
+    @RequestMapping(value = "/{id}", method = {RequestMethod.PUT, RequestMethod.PATCH})
     public ResponseEntity<Void> updateById(@PathVariable UUID id,
                                            @RequestBody @Valid UpdateCustomerRequest  updateCustomerRequest) {
 
@@ -123,4 +215,30 @@ public class CustomerController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Exclui vários clientes de uma vez pelos IDs informados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quantidade de clientes solicitados e excluídos"),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs vazia ou acima do limite")
+    })
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<DeleteCustomersResponse> deleteAllById(
+            @RequestBody @Valid DeleteCustomersRequest deleteCustomersRequest) {
+
+        List<UUID> ids = deleteCustomersRequest.getIds();
+        int deleted = customerService.deleteAllById(ids);
+
+        return ResponseEntity.ok(new DeleteCustomersResponse(ids.size(), deleted));
+    }
+
+    private SlicePageResponse<GetCustomerResponse> toSlicePageResponse(Slice<GetCustomerResponse> customerSlice,
+                                                                        Long totalElements, TotalMode totalMode) {
+        return new SlicePageResponse<>(
+                customerSlice.getContent(),
+                customerSlice.getNumber(),
+                customerSlice.getSize(),
+                customerSlice.hasNext(),
+                totalElements,
+                totalMode
+        );
+    }
 }
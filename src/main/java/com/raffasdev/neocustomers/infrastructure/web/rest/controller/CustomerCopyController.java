@@ -0,0 +1,79 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
+
+import com.raffasdev.neocustomers.application.exception.BulkCopyUnavailableException;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerLoadResult;
+import com.raffasdev.neocustomers.domain.model.customer.ICustomerBulkCopyService;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.LoadCustomersResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/customers")
+@Tag(name = "2. Clientes", description = "Endpoints para gerenciamento de clientes")
+@SecurityRequirement(name = "bearerAuth")
+public class CustomerCopyController {
+
+    private final ICustomerBulkCopyService customerBulkCopyService;
+
+    @Operation(
+            summary = "Carrega clientes em massa via COPY do PostgreSQL",
+            description = "Recebe um CSV no formato da exportação (customer_id,name,email,cpf,phone,birthdate, " +
+                    "com CPF e telefone canônicos) e grava com COPY FROM STDIN em uma tabela temporária. " +
+                    "A coluna customer_id é obrigatória no cabeçalho, mas pode vir vazia para gerar um novo UUIDv7. " +
+                    "Linhas com CPF já cadastrado atualizam o cliente existente. Os dados não passam pelas " +
+                    "validações dos value objects; use apenas com arquivos confiáveis."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quantidade de linhas copiadas e mescladas"),
+            @ApiResponse(responseCode = "501", description = "Banco de dados sem suporte a COPY")
+    })
+    @PostMapping(value = "/load", consumes = CustomerImportController.TEXT_CSV_VALUE)
+    public ResponseEntity<LoadCustomersResponse> load(InputStream body) {
+
+        CustomerLoadResult result = customerBulkCopyService.load(body);
+
+        return ResponseEntity.ok(new LoadCustomersResponse(result.copied(), result.merged()));
+    }
+
+    @Operation(
+            summary = "Exporta todos os clientes em CSV via COPY do PostgreSQL",
+            description = "O CSV é gerado por COPY TO STDOUT e enviado direto na resposta, sem carregar os " +
+                    "clientes em memória. O arquivo pode ser recarregado em /customers/load."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "CSV com todos os clientes"),
+            @ApiResponse(responseCode = "501", description = "Banco de dados sem suporte a COPY")
+    })
+    @GetMapping(value = "/export", produces = CustomerImportController.TEXT_CSV_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+
+        if (!customerBulkCopyService.isAvailable()) {
+            throw new BulkCopyUnavailableException("Bulk copy requires a PostgreSQL database");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(CustomerImportController.TEXT_CSV_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("customers.csv").build().toString());
+
+        customerBulkCopyService.export(response.getOutputStream());
+    }
+}
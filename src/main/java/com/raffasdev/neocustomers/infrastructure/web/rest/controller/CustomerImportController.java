@@ -0,0 +1,97 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportResult;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportRow;
+import com.raffasdev.neocustomers.domain.model.customer.ICustomerImportService;
+import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.CustomerDtoMapper;
+import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.CustomerImportReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/customers")
+@Tag(name = "2. Clientes", description = "Endpoints para gerenciamento de clientes")
+@SecurityRequirement(name = "bearerAuth")
+public class CustomerImportController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private final ICustomerImportService customerImportService;
+
+    private final CustomerDtoMapper customerDtoMapper;
+
+    private final ObjectMapper objectMapper;
+
+    @Operation(
+            summary = "Importa clientes em massa a partir de NDJSON ou CSV",
+            description = "O corpo é lido linha a linha e gravado em lotes; a resposta é um NDJSON com o " +
+                    "resultado de cada linha (CREATED, DUPLICATE ou INVALID), enviado conforme os lotes terminam. " +
+                    "O CSV precisa de cabeçalho com as colunas name, email, cpf, phone e birthDate."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado de cada linha importada"),
+            @ApiResponse(responseCode = "400", description = "Cabeçalho do CSV ausente ou inválido"),
+            @ApiResponse(responseCode = "415", description = "Formato do arquivo não suportado")
+    })
+    @PostMapping(
+            value = "/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void importCustomers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                InputStream body,
+                                HttpServletResponse response) throws IOException {
+
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Reader reader = new InputStreamReader(body, charset);
+
+        Iterator<CustomerImportRow> rows = TEXT_CSV.isCompatibleWith(contentType)
+                ? CustomerImportReader.csv(reader)
+                : CustomerImportReader.ndjson(reader, objectMapper);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        customerImportService.importCustomers(rows, results -> {
+            try {
+                for (CustomerImportResult result : results) {
+                    writer.write(objectMapper.writeValueAsString(customerDtoMapper.toImportCustomerResponse(result)));
+                    writer.write('\n');
+                }
+                writer.flush();
+                response.flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,6 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(List<T> content, int size, String next) {
+}
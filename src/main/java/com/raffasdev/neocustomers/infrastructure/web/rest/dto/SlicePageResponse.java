@@ -0,0 +1,7 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto;
+
+import java.util.List;
+
+public record SlicePageResponse<T>(List<T> content, int page, int size, boolean hasNext, Long totalElements,
+                                   TotalMode totalMode) {
+}
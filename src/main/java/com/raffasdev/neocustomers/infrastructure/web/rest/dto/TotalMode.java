@@ -0,0 +1,7 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto;
+
+public enum TotalMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
@@ -0,0 +1,21 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class DeleteCustomersRequest {
+
+    @NotEmpty(message = "Ids cannot be empty")
+    @Size(max = 10000, message = "At most 10000 ids can be deleted per request")
+    private List<@NotNull(message = "Id cannot be null") UUID> ids;
+}
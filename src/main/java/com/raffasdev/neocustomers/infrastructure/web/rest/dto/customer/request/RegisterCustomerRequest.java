@@ -21,13 +21,13 @@ public class RegisterCustomerRequest {
 
     @NotBlank(message = "CPF cannot be blank")
     @Pattern(
-            regexp = "^\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}$",
-            message = "The CPF format should be xxx.xxx.xxx-xx"
+            regexp = "^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}|\\d{11})$",
+            message = "The CPF format should be xxx.xxx.xxx-xx or 11 digits"
     )
     private String cpf;
 
     @NotBlank(message = "Phone cannot be blank")
-    @Pattern(regexp = "^(\\(?\\d{2}\\)?\\s?)?(9?\\d{4}[-.\\s]?\\d{4})$",
+    @Pattern(regexp = "^((\\(?\\d{2}\\)?\\s?)?(9?\\d{4}[-.\\s]?\\d{4})|\\+55\\d{10,11})$",
             message = "Invalid phone format"
     )
     private String phone;
@@ -20,7 +20,7 @@ public class UpdateCustomerRequest {
     @Email(message = "Invalid email format")
     private String email;
 
-    @Pattern(regexp = "^(\\(?\\d{2}\\)?\\s?)?(9?\\d{4}[-.\\s]?\\d{4})$",
+    @Pattern(regexp = "^((\\(?\\d{2}\\)?\\s?)?(9?\\d{4}[-.\\s]?\\d{4})|\\+55\\d{10,11})$",
             message = "Invalid phone format"
     )
     private String phone;
@@ -0,0 +1,9 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportCustomerResponse(long line, String status, UUID id, String error) {
+}
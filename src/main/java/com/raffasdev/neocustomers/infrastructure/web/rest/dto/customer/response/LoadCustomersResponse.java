@@ -0,0 +1,4 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response;
+
+public record LoadCustomersResponse(long copied, long merged) {
+}
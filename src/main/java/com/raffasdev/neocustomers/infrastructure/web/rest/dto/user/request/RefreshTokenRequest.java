@@ -0,0 +1,16 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "Refresh token cannot be blank")
+    private String refreshToken;
+
+}
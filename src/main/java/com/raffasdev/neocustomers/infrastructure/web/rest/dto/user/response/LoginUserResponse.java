@@ -1,4 +1,4 @@
 package com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response;
 
-public record LoginUserResponse(String email, String token) {
+public record LoginUserResponse(String email, String token, String refreshToken) {
 }
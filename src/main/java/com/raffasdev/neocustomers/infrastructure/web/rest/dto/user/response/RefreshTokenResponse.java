@@ -0,0 +1,4 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response;
+
+public record RefreshTokenResponse(String token, String refreshToken) {
+}
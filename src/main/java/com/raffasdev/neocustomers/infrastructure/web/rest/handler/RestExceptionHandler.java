@@ -56,6 +56,44 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
                         .build(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursorException(InvalidCursorException exception, WebRequest request) {
+        ProblemDetails exceptionDetails = ProblemDetails.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .title("Bad Request Exception: Invalid cursor")
+                .details(exception.getMessage())
+                .build();
+
+        return this.createResponseEntity(exceptionDetails, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<Object> handleInvalidImportFileException(InvalidImportFileException exception,
+                                                                   WebRequest request) {
+        ProblemDetails exceptionDetails = ProblemDetails.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .title("Bad Request Exception: Invalid import file")
+                .details(exception.getMessage())
+                .build();
+
+        return this.createResponseEntity(exceptionDetails, new HttpHeaders(), HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(BulkCopyUnavailableException.class)
+    public ResponseEntity<Object> handleBulkCopyUnavailableException(BulkCopyUnavailableException exception,
+                                                                     WebRequest request) {
+        ProblemDetails exceptionDetails = ProblemDetails.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.NOT_IMPLEMENTED.value())
+                .title("Not Implemented Exception: Bulk copy unavailable")
+                .details(exception.getMessage())
+                .build();
+
+        return this.createResponseEntity(exceptionDetails, new HttpHeaders(), HttpStatus.NOT_IMPLEMENTED, request);
+    }
+
     @ExceptionHandler(CPFAlreadyExistsException.class)
     public ResponseEntity<Object> handleCPFAlreadyExistsException(CPFAlreadyExistsException exception, WebRequest request) {
         ProblemDetails exceptionDetails = ProblemDetails.builder()
@@ -116,6 +154,65 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return this.createResponseEntity(exceptionDetails, new HttpHeaders(), HttpStatus.UNAUTHORIZED, request);
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Object> handleInvalidRefreshTokenException(InvalidRefreshTokenException exception, WebRequest request) {
+        ProblemDetails exceptionDetails = ProblemDetails.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .title("Invalid Refresh Token Exception: Refresh token rejected")
+                .details(exception.getMessage())
+                .build();
+
+        return this.createResponseEntity(exceptionDetails, new HttpHeaders(), HttpStatus.UNAUTHORIZED, request);
+    }
+
+    @ExceptionHandler(InvalidAccessTokenException.class)
+    public ResponseEntity<Object> handleInvalidAccessTokenException(InvalidAccessTokenException exception, WebRequest request) {
+        ProblemDetails exceptionDetails = ProblemDetails.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .title("Invalid Access Token Exception: Access token rejected")
+                .details(exception.getMessage())
+                .build();
+
+        return this.createResponseEntity(exceptionDetails, new HttpHeaders(), HttpStatus.UNAUTHORIZED, request);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Object> handleRateLimitExceededException(RateLimitExceededException exception,
+                                                                   WebRequest request) {
+        ProblemDetails exceptionDetails = ProblemDetails.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .title("Too Many Requests Exception: Rate limit exceeded")
+                .details(exception.getMessage())
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+        headers.set("RateLimit-Limit", String.valueOf(exception.getLimit()));
+        headers.set("RateLimit-Remaining", "0");
+        headers.set("RateLimit-Reset", String.valueOf(exception.getRetryAfterSeconds()));
+
+        return this.createResponseEntity(exceptionDetails, headers, HttpStatus.TOO_MANY_REQUESTS, request);
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<Object> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException exception,
+                                                                            WebRequest request) {
+        ProblemDetails exceptionDetails = ProblemDetails.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .title("Service Unavailable Exception: Authentication is overloaded")
+                .details(exception.getMessage())
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+
+        return this.createResponseEntity(exceptionDetails, headers, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
     @ExceptionHandler(InvalidBirthDateException.class)
     public ResponseEntity<Object> handleInvalidBirthDateException(InvalidBirthDateException exception, WebRequest request) {
         ProblemDetails exceptionDetails = ProblemDetails.builder()
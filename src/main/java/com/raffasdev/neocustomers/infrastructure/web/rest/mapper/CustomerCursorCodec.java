@@ -0,0 +1,130 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.mapper;
+
+import com.raffasdev.neocustomers.application.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class CustomerCursorCodec {
+
+    private static final String ID_PROPERTY = "customerId";
+
+    private static final Map<String, Function<String, Object>> SORTABLE_PROPERTIES = Map.of(
+            ID_PROPERTY, UUID::fromString,
+            "name", value -> value,
+            "email", value -> value,
+            "cpf", Long::valueOf,
+            "birthDate", LocalDate::parse
+    );
+
+    private static final String SEPARATOR = ".";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public Sort toKeysetSort(Sort requested) {
+
+        List<Sort.Order> orders = new ArrayList<>();
+
+        for (Sort.Order order : requested) {
+            if (!SORTABLE_PROPERTIES.containsKey(order.getProperty())) {
+                throw new InvalidCursorException("Cursor pagination cannot sort by '" + order.getProperty() + "'");
+            }
+            orders.add(new Sort.Order(order.getDirection(), order.getProperty()));
+        }
+
+        if (orders.stream().noneMatch(order -> ID_PROPERTY.equals(order.getProperty()))) {
+            orders.add(Sort.Order.asc(ID_PROPERTY));
+        }
+
+        return Sort.by(orders);
+    }
+
+    public String encode(Sort sort, ScrollPosition position) {
+
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            return null;
+        }
+
+        StringBuilder cursor = new StringBuilder(this.encodeSegment(this.sortToString(sort)));
+
+        for (Sort.Order order : sort) {
+            cursor.append(SEPARATOR).append(this.encodeSegment(String.valueOf(keyset.getKeys().get(order.getProperty()))));
+        }
+
+        return cursor.toString();
+    }
+
+    public Cursor decode(String cursor) {
+
+        try {
+            String[] segments = cursor.split("\\" + SEPARATOR, -1);
+            Sort sort = this.toKeysetSort(this.sortFromString(this.decodeSegment(segments[0])));
+
+            List<Sort.Order> orders = sort.toList();
+            if (segments.length != orders.size() + 1) {
+                throw new InvalidCursorException("Cursor is malformed");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 0; i < orders.size(); i++) {
+                String property = orders.get(i).getProperty();
+                keys.put(property, SORTABLE_PROPERTIES.get(property).apply(this.decodeSegment(segments[i + 1])));
+            }
+
+            return new Cursor(sort, ScrollPosition.forward(keys));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException("Cursor is malformed");
+        }
+    }
+
+    private String sortToString(Sort sort) {
+
+        List<String> orders = new ArrayList<>();
+        sort.forEach(order -> orders.add(order.getProperty() + ":" + order.getDirection().name()));
+
+        return String.join(",", orders);
+    }
+
+    private Sort sortFromString(String value) {
+
+        List<Sort.Order> orders = new ArrayList<>();
+
+        for (String order : value.split(",")) {
+            String[] parts = order.split(":");
+            if (parts.length != 2) {
+                throw new InvalidCursorException("Cursor is malformed");
+            }
+            orders.add(new Sort.Order(Sort.Direction.valueOf(parts[1]), parts[0]));
+        }
+
+        return Sort.by(orders);
+    }
+
+    private String encodeSegment(String value) {
+
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeSegment(String value) {
+
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+
+    public record Cursor(Sort sort, ScrollPosition position) {
+    }
+}
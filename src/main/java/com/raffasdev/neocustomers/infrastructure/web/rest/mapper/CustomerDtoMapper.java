@@ -1,7 +1,11 @@
 package com.raffasdev.neocustomers.infrastructure.web.rest.mapper;
 
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportResult;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.GetCustomerResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.ImportCustomerResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.RegisterCustomerResponse;
 import org.springframework.stereotype.Component;
 
@@ -13,8 +17,8 @@ public class CustomerDtoMapper {
                 customer.getId().getValue(),
                 customer.getName(),
                 customer.getEmail(),
-                customer.getCPF(),
-                customer.getPhone(),
+                formatCPF(customer.getCPF()),
+                formatPhone(customer.getPhone()),
                 customer.getBirthDate()
         );
     }
@@ -24,10 +28,39 @@ public class CustomerDtoMapper {
                 customer.getId().getValue(),
                 customer.getName(),
                 customer.getEmail(),
-                customer.getCPF(),
-                customer.getPhone(),
+                formatCPF(customer.getCPF()),
+                formatPhone(customer.getPhone()),
                 customer.getAge()
         );
     }
 
+    public GetCustomerResponse toCustomerGetResponse(CustomerSummary customerSummary) {
+        return new GetCustomerResponse(
+                customerSummary.id(),
+                customerSummary.name(),
+                customerSummary.email(),
+                formatCPF(customerSummary.cpf()),
+                formatPhone(customerSummary.phone()),
+                customerSummary.age()
+        );
+    }
+
+    public ImportCustomerResponse toImportCustomerResponse(CustomerImportResult result) {
+        return new ImportCustomerResponse(
+                result.line(),
+                result.status().name(),
+                result.id(),
+                result.error()
+        );
+    }
+
+    static String formatCPF(long cpf) {
+
+        return CPF.format(cpf);
+    }
+
+    static String formatPhone(long phone) {
+
+        return "+" + phone;
+    }
 }
@@ -0,0 +1,233 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raffasdev.neocustomers.application.exception.InvalidImportFileException;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+public abstract class CustomerImportReader implements Iterator<CustomerImportRow> {
+
+    static final int MAX_LINE_LENGTH = 4096;
+
+    private static final String[] COLUMNS = {"name", "email", "cpf", "phone", "birthdate"};
+
+    private final BufferedReader reader;
+
+    private final StringBuilder line = new StringBuilder();
+
+    private long lineNumber;
+
+    private CustomerImportRow next;
+
+    private boolean finished;
+
+    private CustomerImportReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    public static CustomerImportReader ndjson(Reader reader, ObjectMapper objectMapper) {
+
+        return new CustomerImportReader(reader) {
+
+            @Override
+            CustomerImportRow parse(long lineNumber, String line) {
+
+                try {
+                    JsonNode node = objectMapper.readTree(line);
+
+                    if (!node.isObject()) {
+                        return CustomerImportRow.malformed(lineNumber, "Line is not a JSON object");
+                    }
+
+                    return CustomerImportRow.of(lineNumber, text(node, "name"), text(node, "email"),
+                            text(node, "cpf"), text(node, "phone"), text(node, "birthDate"));
+                } catch (JsonProcessingException e) {
+                    return CustomerImportRow.malformed(lineNumber, "Malformed JSON");
+                }
+            }
+        };
+    }
+
+    public static CustomerImportReader csv(Reader reader) {
+
+        CustomerImportReader csv = new CustomerImportReader(reader) {
+
+            private int[] positions;
+
+            @Override
+            void readHeader() {
+
+                String header = this.readLine();
+                if (header == null || header.length() > MAX_LINE_LENGTH) {
+                    throw new InvalidImportFileException("CSV header is missing or too long");
+                }
+
+                List<String> names = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header);
+                if (names == null) {
+                    throw new InvalidImportFileException("CSV header has an unterminated quoted field");
+                }
+
+                positions = new int[COLUMNS.length];
+                for (int i = 0; i < COLUMNS.length; i++) {
+                    positions[i] = indexOf(names, COLUMNS[i]);
+                    if (positions[i] < 0) {
+                        throw new InvalidImportFileException("CSV header must contain the columns "
+                                + "name, email, cpf, phone and birthDate");
+                    }
+                }
+            }
+
+            @Override
+            CustomerImportRow parse(long lineNumber, String line) {
+
+                List<String> values = splitCsv(line);
+                if (values == null) {
+                    return CustomerImportRow.malformed(lineNumber, "Unterminated quoted field");
+                }
+
+                String[] row = new String[COLUMNS.length];
+                for (int i = 0; i < COLUMNS.length; i++) {
+                    row[i] = positions[i] < values.size() ? values.get(positions[i]) : null;
+                }
+
+                return CustomerImportRow.of(lineNumber, row[0], row[1], row[2], row[3], row[4]);
+            }
+        };
+        csv.readHeader();
+
+        return csv;
+    }
+
+    abstract CustomerImportRow parse(long lineNumber, String line);
+
+    void readHeader() {
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        while (next == null && !finished) {
+            String current = this.readLine();
+
+            if (current == null) {
+                finished = true;
+            } else if (current.length() > MAX_LINE_LENGTH) {
+                next = CustomerImportRow.malformed(lineNumber,
+                        "Line exceeds " + MAX_LINE_LENGTH + " characters");
+            } else if (!current.isBlank()) {
+                next = this.parse(lineNumber, current);
+            }
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public CustomerImportRow next() {
+
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        CustomerImportRow row = next;
+        next = null;
+
+        return row;
+    }
+
+    String readLine() {
+
+        line.setLength(0);
+        boolean truncated = false;
+
+        try {
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+
+            while (c >= 0 && c != '\n') {
+                if (line.length() <= MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    truncated = true;
+                }
+                c = reader.read();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        lineNumber++;
+        if (!truncated && !line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+
+        return line.toString();
+    }
+
+    private static String text(JsonNode node, String field) {
+
+        JsonNode value = node.get(field);
+
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static int indexOf(List<String> names, String column) {
+
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT).equals(column)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    static List<String> splitCsv(String line) {
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString());
+
+        return values;
+    }
+}
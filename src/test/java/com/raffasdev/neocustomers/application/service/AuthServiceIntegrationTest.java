@@ -0,0 +1,161 @@
+package com.raffasdev.neocustomers.application.service;
+
+import com.raffasdev.neocustomers.application.exception.InvalidAccessTokenException;
+import com.raffasdev.neocustomers.application.exception.InvalidRefreshTokenException;
+import com.raffasdev.neocustomers.domain.model.user.AuthTokens;
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.IUserJpaRepository;
+import com.raffasdev.neocustomers.infrastructure.security.TokenRevocationList;
+import com.raffasdev.neocustomers.infrastructure.security.TokenService;
+import com.raffasdev.neocustomers.infrastructure.security.VerifiedToken;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class AuthServiceIntegrationTest {
+
+    private static final long HASHING_DELAY_MILLIS = 500;
+
+    private static final List<Integer> activeConnectionsWhileHashing = new CopyOnWriteArrayList<>();
+
+    private static HikariDataSource hikariDataSource;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private IUserJpaRepository userJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+
+        hikariDataSource = dataSource;
+        activeConnectionsWhileHashing.clear();
+    }
+
+    @Test
+    @DisplayName("registerUser and loginUser should not hold a database connection while hashing passwords")
+    void registerAndLogin_doNotHoldConnection_whileHashingPasswords() {
+
+        Timer connectionUsage = meterRegistry.get("hikaricp.connections.usage").timer();
+        double usageBefore = connectionUsage.totalTime(TimeUnit.MILLISECONDS);
+
+        authService.registerUser("username", "hold@email.com", Set.of(Role.USER_ADMIN), "password123");
+        String token = authService.loginUser("hold@email.com", "password123").accessToken();
+
+        assertThat(token).isNotBlank();
+        assertThat(activeConnectionsWhileHashing).hasSize(2).containsOnly(0);
+
+        double connectionHoldMillis = connectionUsage.totalTime(TimeUnit.MILLISECONDS) - usageBefore;
+        assertThat(connectionHoldMillis).isLessThan(HASHING_DELAY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("refreshTokens should issue new tokens without hashing passwords and reject reused refresh tokens")
+    void refreshTokens_rotatesWithoutHashing_andRejectsReuse() {
+
+        authService.registerUser("username", "refresh@email.com", Set.of(Role.USER_ADMIN), "password123");
+        AuthTokens loginTokens = authService.loginUser("refresh@email.com", "password123");
+        activeConnectionsWhileHashing.clear();
+
+        AuthTokens refreshedTokens = authService.refreshTokens(loginTokens.refreshToken());
+
+        assertThat(refreshedTokens.accessToken()).isNotBlank();
+        assertThat(refreshedTokens.refreshToken()).isNotEqualTo(loginTokens.refreshToken());
+        assertThat(activeConnectionsWhileHashing).isEmpty();
+
+        assertThatThrownBy(() -> authService.refreshTokens(loginTokens.refreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThat(authService.refreshTokens(refreshedTokens.refreshToken()).accessToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("logoutAllSessions should bump the token version and invalidate every access and refresh token of the user")
+    void logoutAllSessions_bumpsTokenVersion_andInvalidatesEverySession() {
+
+        authService.registerUser("username", "logoutall@email.com", Set.of(Role.USER_ADMIN), "password123");
+        AuthTokens firstSession = authService.loginUser("logoutall@email.com", "password123");
+        AuthTokens secondSession = authService.loginUser("logoutall@email.com", "password123");
+
+        authService.logoutAllSessions(firstSession.accessToken());
+
+        assertThat(userJpaRepository.findByEmail("logoutall@email.com").orElseThrow().getTokenVersion()).isEqualTo(1L);
+        VerifiedToken staleToken = tokenService.verify(secondSession.accessToken());
+        assertThat(tokenRevocationList.isRevoked(staleToken.versionId())).isTrue();
+        assertThatThrownBy(() -> authService.refreshTokens(secondSession.refreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThatThrownBy(() -> authService.logoutAllSessions(secondSession.accessToken()))
+                .isInstanceOf(InvalidAccessTokenException.class);
+
+        AuthTokens newSession = authService.loginUser("logoutall@email.com", "password123");
+        assertThat(tokenRevocationList.isRevoked(tokenService.verify(newSession.accessToken()).versionId())).isFalse();
+    }
+
+    @TestConfiguration
+    static class SlowPasswordEncoderConfig {
+
+        @Bean
+        @Primary
+        PasswordEncoder slowPasswordEncoder() {
+
+            return new PasswordEncoder() {
+
+                @Override
+                public String encode(CharSequence rawPassword) {
+
+                    this.simulateHashing();
+                    return "{plain}" + rawPassword;
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+                    this.simulateHashing();
+                    return encodedPassword.equals("{plain}" + rawPassword);
+                }
+
+                private void simulateHashing() {
+
+                    activeConnectionsWhileHashing.add(hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+                    try {
+                        Thread.sleep(HASHING_DELAY_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package com.raffasdev.neocustomers.application.service;
 
 import com.raffasdev.neocustomers.application.exception.EmailAlreadyExistsException;
+import com.raffasdev.neocustomers.application.exception.InvalidAccessTokenException;
+import com.raffasdev.neocustomers.application.exception.InvalidRefreshTokenException;
+import com.raffasdev.neocustomers.application.exception.PasswordHashingUnavailableException;
 import com.raffasdev.neocustomers.application.exception.UserNotFoundException;
 import com.raffasdev.neocustomers.application.exception.WrongCredentialsException;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.domain.model.user.AuthTokens;
+import com.raffasdev.neocustomers.domain.model.user.IRefreshTokenRepository;
 import com.raffasdev.neocustomers.domain.model.user.User;
 import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.UserRepository;
+import com.raffasdev.neocustomers.infrastructure.security.PrincipalCache;
+import com.raffasdev.neocustomers.infrastructure.security.RefreshTokenService;
+import com.raffasdev.neocustomers.infrastructure.security.TokenRevocationList;
 import com.raffasdev.neocustomers.infrastructure.security.TokenService;
+import com.raffasdev.neocustomers.infrastructure.security.VerifiedToken;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 
@@ -41,6 +51,18 @@ class AuthServiceTest {
     @Mock
     private TokenService tokenServiceMock;
 
+    @Mock
+    private PrincipalCache principalCacheMock;
+
+    @Mock
+    private RefreshTokenService refreshTokenServiceMock;
+
+    @Mock
+    private IRefreshTokenRepository refreshTokenRepositoryMock;
+
+    @Mock
+    private TokenRevocationList tokenRevocationListMock;
+
     @InjectMocks
     private AuthService authService;
 
@@ -71,6 +93,7 @@ class AuthServiceTest {
         assertEquals(expectedUser, user);
         assertEquals(expectedUser.getEmail(), user.getEmail());
         assertEquals(expectedUser.getEncodedPassword(), user.getEncodedPassword());
+        verify(principalCacheMock, times(1)).invalidate(expectedUser.getEmail());
     }
 
     @Test
@@ -96,7 +119,7 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("loginUser should return a token when credentials are valid")
+    @DisplayName("loginUser should return access and refresh tokens when credentials are valid")
     void loginUser_returnsToken_whenCredentialsAreValid() {
 
         String email = "teste@email.com";
@@ -113,15 +136,20 @@ class AuthServiceTest {
 
         given(userRepositoryMock.findByEmail(email)).willReturn(Optional.of(foundUser));
         given(passwordEncoderMock.matches(rawPassword, foundUser.getEncodedPassword())).willReturn(true);
-        given(tokenServiceMock.generateToken(foundUser.getEmail())).willReturn(expectedToken);
+        given(tokenServiceMock.generateToken(foundUser)).willReturn(expectedToken);
+        given(refreshTokenServiceMock.generateToken()).willReturn("refresh");
+        given(refreshTokenServiceMock.hash("refresh")).willReturn("refreshHash");
 
-        String actualToken = authService.loginUser(email, rawPassword);
+        AuthTokens actualTokens = authService.loginUser(email, rawPassword);
 
-        assertThat(actualToken).isEqualTo(expectedToken);
+        assertThat(actualTokens.accessToken()).isEqualTo(expectedToken);
+        assertThat(actualTokens.refreshToken()).isEqualTo("refresh");
 
         verify(userRepositoryMock, times(1)).findByEmail(email);
         verify(passwordEncoderMock, times(1)).matches(rawPassword, foundUser.getEncodedPassword());
-        verify(tokenServiceMock, times(1)).generateToken(foundUser.getEmail());
+        verify(tokenServiceMock, times(1)).generateToken(foundUser);
+        verify(refreshTokenRepositoryMock, times(1))
+                .save(eq("refreshHash"), eq(foundUser.getId()), any());
     }
 
     @Test
@@ -136,7 +164,7 @@ class AuthServiceTest {
                 .isInstanceOf(UserNotFoundException.class);
 
         verify(passwordEncoderMock, never()).matches(anyString(), anyString());
-        verify(tokenServiceMock, never()).generateToken(anyString());
+        verify(tokenServiceMock, never()).generateToken(any(User.class));
     }
 
     @Test
@@ -162,8 +190,185 @@ class AuthServiceTest {
 
         verify(userRepositoryMock, times(1)).findByEmail(email);
         verify(passwordEncoderMock, times(1)).matches(rawPassword, foundUser.getEncodedPassword());
-        verify(tokenServiceMock, never()).generateToken(anyString());
+        verify(tokenServiceMock, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("refreshTokens should rotate the refresh token without checking the password")
+    void refreshTokens_rotatesRefreshToken_whenTokenIsActive() {
+
+        User foundUser = User.create(
+                EntityId.newId(),
+                Name.newName("username"),
+                Email.newEmail("teste@gmail.com"),
+                Set.of(Role.USER_ADMIN),
+                "encodedPassword123"
+        );
+
+        given(refreshTokenServiceMock.hash("oldRefresh")).willReturn("oldHash");
+        given(refreshTokenServiceMock.hash("newRefresh")).willReturn("newHash");
+        given(refreshTokenServiceMock.generateToken()).willReturn("newRefresh");
+        given(refreshTokenRepositoryMock.findUserByActiveTokenHash(eq("oldHash"), any(Instant.class)))
+                .willReturn(Optional.of(foundUser));
+        given(refreshTokenRepositoryMock.deleteByTokenHash("oldHash")).willReturn(true);
+        given(tokenServiceMock.generateToken(foundUser)).willReturn("token");
+
+        AuthTokens tokens = authService.refreshTokens("oldRefresh");
+
+        assertThat(tokens.accessToken()).isEqualTo("token");
+        assertThat(tokens.refreshToken()).isEqualTo("newRefresh");
+
+        verify(refreshTokenRepositoryMock, times(1)).deleteByTokenHash("oldHash");
+        verify(refreshTokenRepositoryMock, times(1)).save(eq("newHash"), eq(foundUser.getId()), any());
+        verifyNoInteractions(passwordEncoderMock, userRepositoryMock);
+    }
+
+    @Test
+    @DisplayName("refreshTokens should throw InvalidRefreshTokenException when token is unknown or expired")
+    void refreshTokens_throwsInvalidRefreshTokenException_whenTokenIsNotActive() {
+
+        given(refreshTokenServiceMock.hash("refresh")).willReturn("hash");
+        given(refreshTokenRepositoryMock.findUserByActiveTokenHash(eq("hash"), any(Instant.class)))
+                .willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.refreshTokens("refresh"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepositoryMock, never()).deleteByTokenHash(anyString());
+        verify(tokenServiceMock, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("refreshTokens should throw InvalidRefreshTokenException when token was consumed concurrently")
+    void refreshTokens_throwsInvalidRefreshTokenException_whenTokenWasAlreadyConsumed() {
+
+        User foundUser = User.create(
+                EntityId.newId(),
+                Name.newName("username"),
+                Email.newEmail("teste@gmail.com"),
+                Set.of(Role.USER_ADMIN),
+                "encodedPassword123"
+        );
+
+        given(refreshTokenServiceMock.hash("refresh")).willReturn("hash");
+        given(refreshTokenRepositoryMock.findUserByActiveTokenHash(eq("hash"), any(Instant.class)))
+                .willReturn(Optional.of(foundUser));
+        given(refreshTokenRepositoryMock.deleteByTokenHash("hash")).willReturn(false);
+
+        assertThatThrownBy(() -> authService.refreshTokens("refresh"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(refreshTokenRepositoryMock, never()).save(anyString(), any(), any());
+        verify(tokenServiceMock, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("logoutUser should revoke the access token id and delete the refresh token")
+    void logoutUser_revokesAccessTokenAndDeletesRefreshToken() {
+
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        given(tokenServiceMock.verify("token"))
+                .willReturn(new VerifiedToken("jti", "teste@email.com", Set.of(Role.USER_ADMIN), 0L, expiresAt));
+        given(refreshTokenServiceMock.hash("refresh")).willReturn("refreshHash");
+
+        authService.logoutUser("token", "refresh");
+
+        verify(tokenRevocationListMock, times(1)).revoke("jti", expiresAt);
+        verify(refreshTokenRepositoryMock, times(1)).deleteByTokenHash("refreshHash");
+    }
+
+    @Test
+    @DisplayName("logoutUser should not revoke anything when access token is invalid")
+    void logoutUser_doesNotRevoke_whenAccessTokenIsInvalid() {
+
+        given(tokenServiceMock.verify("invalid")).willReturn(null);
+
+        authService.logoutUser("invalid", null);
+
+        verifyNoInteractions(tokenRevocationListMock, refreshTokenRepositoryMock);
+    }
+
+    @Test
+    @DisplayName("logoutAllSessions should bump the token version, revoke it and delete every refresh token of the user")
+    void logoutAllSessions_bumpsAndRevokesTokenVersion_andDeletesRefreshTokens() {
+
+        EntityId userId = EntityId.newId();
+        User staleUser = User.reconstitute(userId, Name.newName("username"), Email.newEmail("teste@email.com"),
+                Set.of(Role.USER_ADMIN), "encodedPassword", 2L);
+        User currentUser = User.reconstitute(userId, Name.newName("username"), Email.newEmail("teste@email.com"),
+                Set.of(Role.USER_ADMIN), "encodedPassword", 3L);
+        Instant maxExpiresAt = Instant.now().plusSeconds(600);
+
+        given(tokenServiceMock.verify("token"))
+                .willReturn(new VerifiedToken("jti", "teste@email.com", Set.of(Role.USER_ADMIN), 2L, Instant.now().plusSeconds(60)));
+        given(userRepositoryMock.findByEmail("teste@email.com"))
+                .willReturn(Optional.of(staleUser), Optional.of(currentUser));
+        given(userRepositoryMock.incrementTokenVersion(userId, 2L)).willReturn(false);
+        given(userRepositoryMock.incrementTokenVersion(userId, 3L)).willReturn(true);
+        given(tokenServiceMock.maxExpiresAt()).willReturn(maxExpiresAt);
+
+        authService.logoutAllSessions("token");
+
+        verify(tokenRevocationListMock).revoke(VerifiedToken.versionId("teste@email.com", 3L), maxExpiresAt);
+        verify(refreshTokenRepositoryMock).deleteByUserId(userId);
+        verify(principalCacheMock).invalidate("teste@email.com");
+    }
+
+    @Test
+    @DisplayName("logoutAllSessions should throw InvalidAccessTokenException when access token is invalid")
+    void logoutAllSessions_throwsInvalidAccessTokenException_whenAccessTokenIsInvalid() {
+
+        given(tokenServiceMock.verify("invalid")).willReturn(null);
+
+        assertThatThrownBy(() -> authService.logoutAllSessions("invalid"))
+                .isInstanceOf(InvalidAccessTokenException.class);
+
+        verifyNoInteractions(userRepositoryMock, refreshTokenRepositoryMock, principalCacheMock);
+    }
+
+    @Test
+    @DisplayName("loginUser should rehash the password when the stored hash uses an outdated encoding")
+    void loginUser_rehashesPassword_whenEncodingIsOutdated() {
+
+        User foundUser = User.create(
+                EntityId.newId(),
+                Name.newName("username"),
+                Email.newEmail("teste@gmail.com"),
+                Set.of(Role.USER_ADMIN),
+                "legacyHash"
+        );
+
+        given(userRepositoryMock.findByEmail("teste@email.com")).willReturn(Optional.of(foundUser));
+        given(passwordEncoderMock.matches("password123", "legacyHash")).willReturn(true);
+        given(passwordEncoderMock.upgradeEncoding("legacyHash")).willReturn(true);
+        given(passwordEncoderMock.encode("password123")).willReturn("{bcrypt}newHash");
+
+        authService.loginUser("teste@email.com", "password123");
+
+        verify(userRepositoryMock, times(1)).updatePassword(foundUser.getId(), "{bcrypt}newHash");
+        verify(principalCacheMock, times(1)).invalidate(foundUser.getEmail());
     }
 
+    @Test
+    @DisplayName("loginUser should still succeed when the rehash is rejected by the hashing pool")
+    void loginUser_succeeds_whenRehashIsRejected() {
 
-}
\ No newline at end of file
+        User foundUser = User.create(
+                EntityId.newId(),
+                Name.newName("username"),
+                Email.newEmail("teste@gmail.com"),
+                Set.of(Role.USER_ADMIN),
+                "legacyHash"
+        );
+
+        given(userRepositoryMock.findByEmail("teste@email.com")).willReturn(Optional.of(foundUser));
+        given(passwordEncoderMock.matches("password123", "legacyHash")).willReturn(true);
+        given(passwordEncoderMock.upgradeEncoding("legacyHash")).willReturn(true);
+        given(passwordEncoderMock.encode("password123")).willThrow(new PasswordHashingUnavailableException(1));
+        given(tokenServiceMock.generateToken(foundUser)).willReturn("token");
+
+        assertThat(authService.loginUser("teste@email.com", "password123").accessToken()).isEqualTo("token");
+
+        verify(userRepositoryMock, never()).updatePassword(any(), anyString());
+    }
+}
@@ -0,0 +1,60 @@
+package com.raffasdev.neocustomers.application.service;
+
+import com.raffasdev.neocustomers.domain.model.customer.CustomerLoadResult;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerCopyRepository;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerBulkCopyServiceTest {
+
+    @Mock
+    private CustomerCopyRepository customerCopyRepositoryMock;
+
+    @Mock
+    private CustomerNameIndex customerNameIndexMock;
+
+    @InjectMocks
+    private CustomerBulkCopyService customerBulkCopyService;
+
+    @Test
+    @DisplayName("load should copy the customers and schedule a name index rebuild afterwards")
+    void load_copiesCustomers_andSchedulesNameIndexRebuild() {
+
+        InputStream csv = new ByteArrayInputStream(new byte[0]);
+        given(customerCopyRepositoryMock.load(csv)).willReturn(new CustomerLoadResult(3, 2));
+
+        CustomerLoadResult result = customerBulkCopyService.load(csv);
+
+        assertThat(result).isEqualTo(new CustomerLoadResult(3, 2));
+        InOrder inOrder = inOrder(customerCopyRepositoryMock, customerNameIndexMock);
+        inOrder.verify(customerCopyRepositoryMock).load(csv);
+        inOrder.verify(customerNameIndexMock).rebuildAsync();
+    }
+
+    @Test
+    @DisplayName("export should return the number of exported customers")
+    void export_returnsExportedCount() {
+
+        OutputStream csv = new ByteArrayOutputStream();
+        given(customerCopyRepositoryMock.export(csv)).willReturn(5L);
+
+        assertThat(customerBulkCopyService.export(csv)).isEqualTo(5);
+        verifyNoInteractions(customerNameIndexMock);
+    }
+}
@@ -0,0 +1,78 @@
+package com.raffasdev.neocustomers.application.service;
+
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportResult;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportRow;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.ICustomerJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "customers.import.batch-size=2")
+@ActiveProfiles("test")
+class CustomerImportServiceIntegrationTest {
+
+    @Autowired
+    private CustomerImportService customerImportService;
+
+    @Autowired
+    private CustomerApplicationService customerService;
+
+    @Autowired
+    private ICustomerJpaRepository customerJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+
+        customerJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("importCustomers should batch insert valid rows and report duplicates within and across batches")
+    void importCustomers_insertsValidRows_andReportsDuplicates() {
+
+        customerService.save("Existing", "existing@email.com", "529.982.247-25", "11911112222",
+                LocalDate.of(1990, 5, 10));
+
+        List<CustomerImportRow> rows = List.of(
+                this.row(1, "Ana", "ana@email.com", "111.222.333-96"),
+                this.row(2, "Ana Copy", "ana@email.com", "222.333.444-05"),
+                this.row(3, "Bia", "bia@email.com", "52998224725"),
+                CustomerImportRow.of(4, "Caio", "not-an-email", "333.444.555-08", "11911112222", "2000-01-20"),
+                this.row(5, "Duda", "duda@email.com", "11122233396"),
+                this.row(6, "Enzo", "enzo@email.com", "935.411.347-80")
+        );
+        List<CustomerImportResult> results = new ArrayList<>();
+
+        customerImportService.importCustomers(rows.iterator(), results::addAll);
+
+        assertThat(results).extracting(CustomerImportResult::status).containsExactly(
+                CustomerImportResult.Status.CREATED,
+                CustomerImportResult.Status.DUPLICATE,
+                CustomerImportResult.Status.DUPLICATE,
+                CustomerImportResult.Status.INVALID,
+                CustomerImportResult.Status.DUPLICATE,
+                CustomerImportResult.Status.CREATED
+        );
+
+        CustomerEntity imported = customerJpaRepository.findById(results.get(0).id()).orElseThrow();
+        assertThat(imported.getCpf()).isEqualTo(11122233396L);
+        assertThat(imported.getPhone()).isEqualTo(5511911112222L);
+        assertThat(imported.getBirthDate()).isEqualTo(LocalDate.of(2000, 1, 20));
+        assertThat(customerJpaRepository.count()).isEqualTo(3);
+    }
+
+    private CustomerImportRow row(long line, String name, String email, String cpf) {
+
+        return CustomerImportRow.of(line, name, email, cpf, "11911112222", "2000-01-20");
+    }
+}
@@ -0,0 +1,121 @@
+package com.raffasdev.neocustomers.application.service;
+
+import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportResult;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportRow;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerBatchWriter;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private CustomerBatchWriter customerBatchWriterMock;
+
+    @Mock
+    private CustomerNameIndex customerNameIndexMock;
+
+    @Mock
+    private PlatformTransactionManager transactionManagerMock;
+
+    private CustomerImportService customerImportService;
+
+    @BeforeEach
+    void setUp() {
+        customerImportService = new CustomerImportService(customerBatchWriterMock, customerNameIndexMock,
+                transactionManagerMock, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("importCustomers should insert valid rows in batches and report every row in input order")
+    void importCustomers_insertsValidRowsInBatches_andReportsRowsInOrder() {
+
+        given(customerBatchWriterMock.insertAll(anyList())).willReturn(new int[]{1, 0}, new int[]{1});
+        List<CustomerImportRow> rows = List.of(
+                this.validRow(1, "Ana", "ana@email.com", "111.222.333-96"),
+                this.validRow(2, "Bia", "bia@email.com", "222.333.444-05"),
+                CustomerImportRow.of(3, "Caio", "caio@email.com", "123.456.789-00", "11911112222", "2000-01-20"),
+                this.validRow(4, "Duda", "duda@email.com", "333.444.555-08")
+        );
+        List<CustomerImportResult> results = new ArrayList<>();
+
+        customerImportService.importCustomers(rows.iterator(), results::addAll);
+
+        assertThat(results).extracting(CustomerImportResult::line).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(results).extracting(CustomerImportResult::status).containsExactly(
+                CustomerImportResult.Status.CREATED,
+                CustomerImportResult.Status.DUPLICATE,
+                CustomerImportResult.Status.INVALID,
+                CustomerImportResult.Status.CREATED
+        );
+        assertThat(results.get(0).id()).isNotNull();
+        assertThat(results.get(2).error()).contains("Invalid CPF");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Customer>> batches = ArgumentCaptor.forClass(List.class);
+        verify(customerBatchWriterMock, times(2)).insertAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        verify(transactionManagerMock, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("importCustomers should report malformed and invalid rows without touching the database")
+    void importCustomers_skipsDatabase_whenNoRowIsValid() {
+
+        List<CustomerImportRow> rows = List.of(
+                CustomerImportRow.malformed(1, "Malformed JSON"),
+                CustomerImportRow.of(2, "Ana", "ana@email.com", "111.222.333-96", "11911112222", "20/01/2000")
+        );
+        List<CustomerImportResult> results = new ArrayList<>();
+
+        customerImportService.importCustomers(rows.iterator(), results::addAll);
+
+        assertThat(results).extracting(CustomerImportResult::status)
+                .containsOnly(CustomerImportResult.Status.INVALID);
+        assertThat(results.get(0).error()).isEqualTo("Malformed JSON");
+        verifyNoInteractions(customerBatchWriterMock, customerNameIndexMock, transactionManagerMock);
+    }
+
+    @Test
+    @DisplayName("importCustomers should add only the inserted customers to the name index")
+    @SuppressWarnings("unchecked")
+    void importCustomers_indexesOnlyInsertedCustomers() {
+
+        given(customerBatchWriterMock.insertAll(anyList())).willReturn(new int[]{0, 1});
+        List<CustomerImportResult> results = new ArrayList<>();
+
+        customerImportService.importCustomers(List.of(
+                this.validRow(1, "Ana", "ana@email.com", "111.222.333-96"),
+                this.validRow(2, "Bia", "bia@email.com", "222.333.444-05")
+        ).iterator(), results::addAll);
+
+        ArgumentCaptor<Map<UUID, String>> names = ArgumentCaptor.forClass(Map.class);
+        verify(customerNameIndexMock).putAll(names.capture());
+        assertThat(names.getValue()).containsExactly(Map.entry(results.get(1).id(), "Bia"));
+    }
+
+    private CustomerImportRow validRow(long line, String name, String email, String cpf) {
+
+        return CustomerImportRow.of(line, name, email, cpf, "11911112222", "2000-01-20");
+    }
+}
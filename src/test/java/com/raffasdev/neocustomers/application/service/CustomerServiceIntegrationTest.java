@@ -0,0 +1,133 @@
+package com.raffasdev.neocustomers.application.service;
+
+import com.raffasdev.neocustomers.application.exception.CPFAlreadyExistsException;
+import com.raffasdev.neocustomers.application.exception.CustomerNotFoundException;
+import com.raffasdev.neocustomers.application.exception.EmailAlreadyExistsException;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.ICustomerJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CustomerServiceIntegrationTest {
+
+    private static final int PARALLEL_REQUESTS = 8;
+
+    private static final String[] VALID_CPFS = {
+            "111.222.333-96", "222.333.444-05", "333.444.555-08", "123.456.789-09",
+            "529.982.247-25", "935.411.347-80", "390.533.447-05", "870.825.524-59"
+    };
+
+    @Autowired
+    private CustomerApplicationService customerService;
+
+    @Autowired
+    private ICustomerJpaRepository customerJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+
+        customerJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("save should accept exactly one of many parallel creates sharing an email and translate the rest")
+    void save_translatesEmailConstraint_whenDuplicatesRaceInParallel() throws Exception {
+
+        List<Throwable> failures = this.saveInParallel(i -> VALID_CPFS[i], i -> "race@email.com");
+
+        assertThat(customerJpaRepository.count()).isEqualTo(1);
+        assertThat(failures).hasSize(PARALLEL_REQUESTS - 1)
+                .allMatch(EmailAlreadyExistsException.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("save should accept exactly one of many parallel creates sharing a CPF and translate the rest")
+    void save_translatesCpfConstraint_whenDuplicatesRaceInParallel() throws Exception {
+
+        List<Throwable> failures = this.saveInParallel(i -> "111.222.333-96", i -> "race" + i + "@email.com");
+
+        assertThat(customerJpaRepository.count()).isEqualTo(1);
+        assertThat(failures).hasSize(PARALLEL_REQUESTS - 1)
+                .allMatch(CPFAlreadyExistsException.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("save should reject the same CPF sent in another format and report it in the display format")
+    void save_throwsCPFAlreadyExistsException_whenCpfExistsInAnotherFormat() {
+
+        customerService.save("username", "first@email.com", "111.222.333-96", "11911112222",
+                LocalDate.now().minusYears(20));
+
+        assertThatThrownBy(() -> customerService.save("username", "second@email.com", "11122233396",
+                "11911112222", LocalDate.now().minusYears(20)))
+                .isInstanceOf(CPFAlreadyExistsException.class)
+                .hasMessage("CPF already exists: 111.222.333-96");
+    }
+
+    @Test
+    @DisplayName("updateById should translate the email constraint and report unknown ids as not found")
+    void updateById_translatesEmailConstraint_andReportsUnknownIds() {
+
+        customerService.save("username", "first@email.com", "111.222.333-96", "11911112222",
+                LocalDate.now().minusYears(20));
+        UUID secondId = customerService.save("username", "second@email.com", "222.333.444-05", "11911112222",
+                LocalDate.now().minusYears(20)).getId().getValue();
+
+        assertThatThrownBy(() -> customerService.updateById(secondId, null, "first@email.com", null, null))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        assertThatThrownBy(() -> customerService.updateById(UUID.randomUUID(), "Ana", null, null, null))
+                .isInstanceOf(CustomerNotFoundException.class);
+        assertThat(customerJpaRepository.findById(secondId).orElseThrow().getEmail()).isEqualTo("second@email.com");
+    }
+
+    private List<Throwable> saveInParallel(IntFunction<String> cpf, IntFunction<String> email) throws Exception {
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_REQUESTS);
+        try {
+            for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+                int request = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return customerService.save("username", email.apply(request), cpf.apply(request),
+                            "11911112222", LocalDate.now().minusYears(20));
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return failures;
+    }
+}
@@ -4,12 +4,15 @@ import com.raffasdev.neocustomers.application.exception.CPFAlreadyExistsExceptio
 import com.raffasdev.neocustomers.application.exception.CustomerNotFoundException;
 import com.raffasdev.neocustomers.application.exception.EmailAlreadyExistsException;
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerCount;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
 import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameIndex;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +21,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -32,7 +35,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,35 +43,40 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepositoryMock;
 
+    @Mock
+    private CustomerNameIndex customerNameIndexMock;
+
     @InjectMocks
     private CustomerApplicationService customerService;
 
     private Customer customer;
 
+    private CustomerSummary summary;
+
     @BeforeEach
     void setUp() {
         customer = Customer.create(
                 EntityId.newId(),
                 Name.newName("username"),
                 Email.newEmail("teste@email.com"),
-                CPF.newCPF("111.222.333-44"),
+                CPF.newCPF("111.222.333-96"),
                 Phone.newPhone("11911112222"),
                 BirthDate.newBirthDate(LocalDate.now().minusYears(20))
         );
+        summary = new CustomerSummary(customer.getId().getValue(), customer.getName(), customer.getEmail(),
+                customer.getCPF(), customer.getPhone(), customer.getAge());
     }
 
     @Test
     @DisplayName("save should return a Customer when data is valid and not duplicate")
     void save_returnsCustomer_whenDataIsValidAndNotDuplicate() {
 
-        given(customerRepositoryMock.existsByEmail(any(String.class))).willReturn(false);
-        given(customerRepositoryMock.existsByCpf(any(String.class))).willReturn(false);
         given(customerRepositoryMock.save(any(Customer.class))).willReturn(customer);
 
         Customer savedCustomer = customerService.save(
                 "username",
                 "teste@email.com",
-                "111.222.333-44",
+                "111.222.333-96",
                 "11911112222",
                 LocalDate.now().minusYears(20)
         );
@@ -77,32 +84,32 @@ class CustomerServiceTest {
         assertThat(savedCustomer).isNotNull();
         assertThat(customer).isEqualTo(savedCustomer);
         verify(customerRepositoryMock, times(1)).save(any(Customer.class));
+        verify(customerNameIndexMock, times(1)).put(any(UUID.class), anyString());
     }
 
     @Test
-    @DisplayName("save should throw EmailAlreadyExistsException when email already exists")
+    @DisplayName("save should propagate EmailAlreadyExistsException when the insert hits the email constraint")
     void save_throwsEmailAlreadyExistsException_whenEmailAlreadyExists() {
 
         String email = "teste@email.com";
-        given(customerRepositoryMock.existsByEmail(email)).willReturn(true);
+        given(customerRepositoryMock.save(any(Customer.class))).willThrow(new EmailAlreadyExistsException(email));
 
         assertThatThrownBy(() -> customerService.save(
                 "username", email,
-                "111.222.333-44",
+                "111.222.333-96",
                 "11911112222",
                 LocalDate.now().minusYears(20)))
                 .isInstanceOf(EmailAlreadyExistsException.class);
 
-        verify(customerRepositoryMock, never()).save(any(Customer.class));
+        verify(customerNameIndexMock, never()).put(any(UUID.class), anyString());
     }
 
     @Test
-    @DisplayName("save throws CPFAlreadyExistsException when CPF already exists")
+    @DisplayName("save should propagate CPFAlreadyExistsException when the insert hits the CPF constraint")
     void save_throwsCPFAlreadyExistsException_whenCpfAlreadyExists() {
 
-        String cpf = "111.222.333-44";
-        given(customerRepositoryMock.existsByEmail(anyString())).willReturn(false);
-        given(customerRepositoryMock.existsByCpf(cpf)).willReturn(true);
+        String cpf = "111.222.333-96";
+        given(customerRepositoryMock.save(any(Customer.class))).willThrow(new CPFAlreadyExistsException(cpf));
 
         assertThatThrownBy(() -> customerService.save(
                 "username",
@@ -112,7 +119,7 @@ class CustomerServiceTest {
                 LocalDate.now().minusYears(20)))
                 .isInstanceOf(CPFAlreadyExistsException.class);
 
-        verify(customerRepositoryMock, never()).save(any(Customer.class));
+        verify(customerNameIndexMock, never()).put(any(UUID.class), anyString());
     }
 
     @Test
@@ -139,36 +146,32 @@ class CustomerServiceTest {
     }
 
     @Test
-    @DisplayName("findAll should return a Page of Customers")
-    void findAll_returnsPageOfCustomers_always() {
+    @DisplayName("findAllSummariesSlice should return the summary Slice from the repository")
+    void findAllSummariesSlice_returnsSummarySlice_always() {
 
-        Pageable pageable = Pageable.unpaged();
-        Page<Customer> customerPage = new PageImpl<>(List.of(customer));
-        given(customerRepositoryMock.findAll(pageable)).willReturn(customerPage);
+        Pageable pageable = Pageable.ofSize(10);
+        Slice<CustomerSummary> summarySlice = new SliceImpl<>(List.of(summary), pageable, false);
+        given(customerRepositoryMock.findAllSummariesSlice(pageable)).willReturn(summarySlice);
 
-        Page<Customer> result = customerService.findAll(pageable);
+        Slice<CustomerSummary> result = customerService.findAllSummariesSlice(pageable);
 
-        assertThat(result).isNotEmpty();
-        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).containsExactly(summary);
     }
 
     @Test
-    @DisplayName("searchByName should return a Page of Customers when a name is provided")
-    void searchByName_returnsPageOfCustomers_whenNameIsProvided() {
+    @DisplayName("searchSummariesSliceByName should return the summary Slice when a name is provided")
+    void searchSummariesSliceByName_returnsSummarySlice_whenNameIsProvided() {
 
         String nameToSearch = "user";
-        Pageable pageable = Pageable.unpaged();
-        Page<Customer> expectedPage = new PageImpl<>(List.of(customer));
+        Pageable pageable = Pageable.ofSize(10);
+        Slice<CustomerSummary> expectedSlice = new SliceImpl<>(List.of(summary), pageable, false);
 
-        given(customerRepositoryMock.searchByName(nameToSearch, pageable)).willReturn(expectedPage);
+        given(customerRepositoryMock.searchSummariesSliceByName(nameToSearch, pageable)).willReturn(expectedSlice);
 
-        Page<Customer> actualPage = customerService.searchByName(nameToSearch, pageable);
+        Slice<CustomerSummary> actualSlice = customerService.searchSummariesSliceByName(nameToSearch, pageable);
 
-        assertThat(actualPage).isNotEmpty();
-        assertThat(actualPage.getTotalElements()).isEqualTo(1);
-        assertThat(actualPage.getContent().get(0).getName()).isEqualTo(customer.getName());
-
-        verify(customerRepositoryMock).searchByName(nameToSearch, pageable);
+        assertThat(actualSlice.getContent()).extracting(CustomerSummary::name).containsExactly(customer.getName());
+        verify(customerRepositoryMock).searchSummariesSliceByName(nameToSearch, pageable);
     }
 
     @Test
@@ -176,40 +179,60 @@ class CustomerServiceTest {
     void deleteById_callsRepositoryDelete_always() {
 
         UUID idToDelete = UUID.randomUUID();
-        willDoNothing().given(customerRepositoryMock).deleteById(idToDelete);
+        given(customerRepositoryMock.deleteById(idToDelete)).willReturn(1);
 
         customerService.deleteById(idToDelete);
 
         verify(customerRepositoryMock, times(1)).deleteById(idToDelete);
+        verify(customerNameIndexMock, times(1)).remove(idToDelete);
     }
 
     @Test
-    @DisplayName("updateById should update customer when data is valid")
+    @DisplayName("deleteById should throw CustomerNotFoundException when no row is deleted")
+    void deleteById_throwsCustomerNotFoundException_whenCustomerIsNotFound() {
+
+        UUID nonExistentId = UUID.randomUUID();
+        given(customerRepositoryMock.deleteById(nonExistentId)).willReturn(0);
+
+        assertThatThrownBy(() -> customerService.deleteById(nonExistentId))
+                .isInstanceOf(CustomerNotFoundException.class);
+
+        verify(customerNameIndexMock, never()).remove(nonExistentId);
+    }
+
+    @Test
+    @DisplayName("deleteAllById should return the deleted count and drop the ids from the name index")
+    void deleteAllById_returnsDeletedCount_always() {
+
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        given(customerRepositoryMock.deleteAllById(ids)).willReturn(1);
+
+        int deleted = customerService.deleteAllById(ids);
+
+        assertThat(deleted).isEqualTo(1);
+        verify(customerNameIndexMock, times(1)).removeAll(ids);
+    }
+
+    @Test
+    @DisplayName("updateById should update only the provided fields with a single repository call")
     void updateById_updatesCustomer_whenDataIsValid() {
 
         UUID customerId = customer.getId().getValue();
-        String newName = "newUsername";
-        String newEmail = "new_teste@teste.com";
-        String newPhone = "11933334444";
-        LocalDate newBirthDate = LocalDate.now().minusYears(20);
+        given(customerRepositoryMock.updateById(customerId, Name.newName("newUsername"), null,
+                Phone.newPhone("11933334444"), null)).willReturn(1);
 
-        given(customerRepositoryMock.findById(customerId)).willReturn(Optional.of(customer));
-        given(customerRepositoryMock.existsByEmail(newEmail)).willReturn(false);
-        given(customerRepositoryMock.save(any(Customer.class))).willReturn(customer);
+        customerService.updateById(customerId, "newUsername", " ", "11933334444", null);
 
-        customerService.updateById(customerId, newName, newEmail, newPhone, newBirthDate);
-
-        verify(customerRepositoryMock, times(1))
-                .save(any(Customer.class));
-        verify(customerRepositoryMock, times(1)).save(any(Customer.class));
+        verify(customerRepositoryMock, never()).findById(any(UUID.class));
+        verify(customerNameIndexMock, times(1)).put(customerId, "newUsername");
     }
 
     @Test
-    @DisplayName("updateById should throw CustomerNotFoundException when customer to update is not found")
+    @DisplayName("updateById should throw CustomerNotFoundException when no row is updated")
     void updateById_throwsCustomerNotFoundException_whenCustomerIsNotFound() {
 
         UUID nonExistentId = UUID.randomUUID();
-        given(customerRepositoryMock.findById(nonExistentId)).willReturn(Optional.empty());
+        given(customerRepositoryMock.updateById(any(UUID.class), any(), any(), any(), any())).willReturn(0);
 
         assertThatThrownBy(() -> customerService.updateById(nonExistentId,
                 "username",
@@ -218,16 +241,29 @@ class CustomerServiceTest {
                 LocalDate.now().minusYears(20)))
                 .isInstanceOf(CustomerNotFoundException.class);
 
-        verify(customerRepositoryMock, never()).save(any());
+        verify(customerNameIndexMock, never()).put(any(UUID.class), anyString());
+    }
+
+    @Test
+    @DisplayName("updateById should only check existence when no field is provided")
+    void updateById_checksExistence_whenNoFieldIsProvided() {
+
+        UUID customerId = customer.getId().getValue();
+        given(customerRepositoryMock.existsById(customerId)).willReturn(false);
+
+        assertThatThrownBy(() -> customerService.updateById(customerId, null, null, null, null))
+                .isInstanceOf(CustomerNotFoundException.class);
+
+        verify(customerRepositoryMock, never()).updateById(any(UUID.class), any(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("updateById should throw EmailAlreadyExistsException when new email is already taken")
+    @DisplayName("updateById should propagate EmailAlreadyExistsException when the update hits the email constraint")
     void updateById_throwsEmailAlreadyExistsException_whenNewEmailIsTaken() {
 
         String newEmail = "existing@email.com";
-        given(customerRepositoryMock.findById(customer.getId().getValue())).willReturn(Optional.of(customer));
-        given(customerRepositoryMock.existsByEmail(newEmail)).willReturn(true);
+        given(customerRepositoryMock.updateById(any(UUID.class), any(), any(), any(), any()))
+                .willThrow(new EmailAlreadyExistsException(newEmail));
 
         assertThatThrownBy(() -> customerService.updateById(customer.getId().getValue(),
                 "username",
@@ -236,6 +272,28 @@ class CustomerServiceTest {
                 LocalDate.now().minusYears(20)))
                 .isInstanceOf(EmailAlreadyExistsException.class);
 
-        verify(customerRepositoryMock, never()).save(any());
+        verify(customerNameIndexMock, never()).put(any(UUID.class), anyString());
+    }
+
+    @Test
+    @DisplayName("count should count by name when a name is provided and count all otherwise")
+    void count_delegatesByName_whenNameIsProvided() {
+
+        given(customerRepositoryMock.countByName("john", true)).willReturn(CustomerCount.approximate(10));
+        given(customerRepositoryMock.countAll(true)).willReturn(CustomerCount.approximate(100));
+
+        assertThat(customerService.count("john", true)).isEqualTo(CustomerCount.approximate(10));
+        assertThat(customerService.count(" ", true)).isEqualTo(CustomerCount.approximate(100));
+    }
+
+    @Test
+    @DisplayName("findSummaryById should throw CustomerNotFoundException when the id does not exist")
+    void findSummaryById_throwsCustomerNotFoundException_whenIdDoesNotExist() {
+
+        UUID id = UUID.randomUUID();
+        given(customerRepositoryMock.findSummaryById(id)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> customerService.findSummaryById(id))
+                .isInstanceOf(CustomerNotFoundException.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package com.raffasdev.neocustomers.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PasswordEncoder passwordEncoder = new SecurityConfig(null).passwordEncoder(
+            1, 4, Duration.ofSeconds(1), 5, Duration.ofMillis(250), 4, 16, meterRegistry);
+
+    @Test
+    @DisplayName("passwordEncoder should encode with the bcrypt id and the configured strength")
+    void passwordEncoder_encodesWithBcryptIdAndStrength() {
+
+        String encoded = passwordEncoder.encode("password123");
+
+        assertThat(encoded).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches("password123", encoded)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hashing.bcrypt.strength").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("passwordEncoder should match legacy hashes and flag them for rehash")
+    void passwordEncoder_matchesLegacyHashes_andFlagsThemForRehash() {
+
+        String legacyHash = new BCryptPasswordEncoder(5).encode("password123");
+        String weakerHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123");
+
+        assertThat(passwordEncoder.matches("password123", legacyHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(passwordEncoder.matches("password123", weakerHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(weakerHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("passwordEncoder should record hashing latency tagged by cost")
+    void passwordEncoder_recordsLatency_perCost() {
+
+        passwordEncoder.matches("password123", new BCryptPasswordEncoder(4).encode("password123"));
+        passwordEncoder.encode("password123");
+
+        assertThat(meterRegistry.get("password.hashing").tags("operation", "matches", "cost", "04").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing").tags("operation", "encode", "cost", "05").timer().count())
+                .isEqualTo(1);
+    }
+}
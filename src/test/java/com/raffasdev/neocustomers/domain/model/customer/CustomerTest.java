@@ -30,7 +30,7 @@ class CustomerTest {
         id = EntityId.newId();
         name = Name.newName("username");
         email = Email.newEmail("teste@email.com");
-        cpf = CPF.of("123.456.789-00");
+        cpf = CPF.of("123.456.789-09");
         phone = Phone.of("11987654321");
         birthDate = BirthDate.of(LocalDate.now().minusYears(20));
 
@@ -97,14 +97,14 @@ class CustomerTest {
     @DisplayName("hasCPF should return true when CPF matches")
     void hasCPF_returnsTrue_WhenCpfMatches() {
 
-        assertTrue(customer.hasCPF(CPF.of("123.456.789-00")));
+        assertTrue(customer.hasCPF(CPF.of("123.456.789-09")));
     }
 
     @Test
     @DisplayName("hasCPF should return false when CPF does not match")
     void hasCPF_returnsFalse_WhenCpfDoesNotMatch() {
 
-        assertFalse(customer.hasCPF(CPF.of("111.222.333-44")));
+        assertFalse(customer.hasCPF(CPF.of("111.222.333-96")));
     }
 
     @Test
@@ -141,8 +141,8 @@ class CustomerTest {
 
         assertEquals("username", customer.getName());
         assertEquals("teste@email.com", customer.getEmail());
-        assertEquals("123.456.789-00", customer.getCPF());
-        assertEquals("11987654321", customer.getPhone());
+        assertEquals(12345678909L, customer.getCPF());
+        assertEquals(5511987654321L, customer.getPhone());
         assertEquals(birthDate.getValue(), customer.getBirthDate());
     }
 
@@ -154,7 +154,7 @@ class CustomerTest {
                 id,
                 Name.newName("Another Name"),
                 Email.newEmail("another@email.com"),
-                CPF.of("111.222.333-44"),
+                CPF.of("111.222.333-96"),
                 Phone.of("9988887777"),
                 BirthDate.of(LocalDate.now().minusYears(20))
         );
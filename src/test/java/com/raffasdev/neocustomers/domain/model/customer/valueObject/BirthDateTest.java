@@ -76,4 +76,16 @@ class BirthDateTest {
 
         assertEquals(30, age);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("reconstitute should keep the persisted value without validating it")
+    void reconstitute_skipsValidation_whenValueIsPersisted() {
+
+        LocalDate underage = LocalDate.now().minusYears(10);
+
+        BirthDate birthDate = BirthDate.reconstitute(underage);
+
+        assertEquals(underage, birthDate.getValue());
+        assertEquals(10, birthDate.getAge());
+    }
+}
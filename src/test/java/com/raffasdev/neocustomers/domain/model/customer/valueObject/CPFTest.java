@@ -11,7 +11,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class CPFTest {
 
-    private final String validCPF = "111.111.111-11";
+    private final String validCPF = "529.982.247-25";
+
+    private final long validCPFNumber = 52998224725L;
 
     @Test
     @DisplayName("of should return CPF when valid CPF is provided")
@@ -20,7 +22,7 @@ class CPFTest {
         CPF cpf = assertDoesNotThrow(() -> CPF.of(validCPF));
 
         assertNotNull(cpf);
-        assertEquals(validCPF, cpf.getValue());
+        assertEquals(validCPFNumber, cpf.getValue());
     }
 
     @Test
@@ -30,7 +32,22 @@ class CPFTest {
         CPF cpf = assertDoesNotThrow(() -> CPF.newCPF(validCPF));
 
         assertNotNull(cpf);
-        assertEquals(validCPF, cpf.getValue());
+        assertEquals(validCPFNumber, cpf.getValue());
+    }
+
+    @Test
+    @DisplayName("newCPF should accept the CPF as eleven plain digits")
+    void newCPF_ReturnsSameCPF_WhenPlainDigitsAreProvided() {
+
+        assertEquals(CPF.newCPF(validCPF), CPF.newCPF("52998224725"));
+    }
+
+    @Test
+    @DisplayName("of should validate the check digits of a numeric CPF")
+    void of_ValidatesCheckDigits_WhenNumericCPFIsProvided() {
+
+        assertEquals(validCPFNumber, CPF.of(validCPFNumber).getValue());
+        assertThrows(InvalidCPFException.class, () -> CPF.of(52998224724L));
     }
 
     @Test
@@ -47,7 +64,8 @@ class CPFTest {
 
     @ParameterizedTest
     @NullAndEmptySource
-    @ValueSource(strings = {"1234567", "(11) 98765-432"})
+    @ValueSource(strings = {"1234567", "(11) 98765-432", "529.982.247-24", "529.982.247-15", "111.111.111-11",
+            "5299822472", "529.982.24725"})
     @DisplayName("newCPF should throw InvalidCPFException when invalid values are provided")
     void newCPF_ThrowsInvalidCPFException_WhenInvalidValuesCPFAreProvided(String invalidCPF) {
 
@@ -60,7 +78,23 @@ class CPFTest {
 
         CPF cpf = CPF.of(validCPF);
 
-        assertEquals(cpf.getValue(), validCPF);
+        assertEquals(validCPFNumber, cpf.getValue());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("format should render the CPF with dots, dash and leading zeros")
+    void format_rendersDisplayForm_whenCPFHasLeadingZeros() {
+
+        assertEquals("529.982.247-25", CPF.format(validCPFNumber));
+        assertEquals("012.345.678-90", CPF.format(1234567890L));
+    }
+
+    @Test
+    @DisplayName("reconstitute should keep the persisted value without validating it")
+    void reconstitute_skipsValidation_whenValueIsPersisted() {
+
+        CPF cpf = CPF.reconstitute(123L);
+
+        assertEquals(123L, cpf.getValue());
+    }
+}
@@ -0,0 +1,98 @@
+package com.raffasdev.neocustomers.domain.model.customer.valueObject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormatScannerPropertyTest {
+
+    private static final int SAMPLES = 200_000;
+
+    private static final Pattern LEGACY_CPF_PATTERN = Pattern.compile("^\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}$");
+
+    private static final Pattern LEGACY_PHONE_PATTERN =
+            Pattern.compile("^(\\(?\\d{2}\\)?\\s?)?(9?\\d{4}[-.\\s]?\\d{4})$");
+
+    private static final String[] CPF_SEEDS = {"529.982.247-25", "000.000.000-00", "12345678909"};
+
+    private static final String[] PHONE_SEEDS = {
+            "11987654321", "(11) 98765-4321", "(11)8765.4321", "11 8765 4321", "987654321", "8765-4321",
+            "(119876-5432", "11)98765\t4321"
+    };
+
+    @Test
+    @DisplayName("CPF.matchesFormat should accept exactly the strings the legacy regex accepts")
+    void cpfMatchesFormat_agreesWithLegacyRegex_forGeneratedStrings() {
+
+        Random random = new Random(20240517L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            String candidate = mutate(random, CPF_SEEDS[random.nextInt(CPF_SEEDS.length)], "0123456789.-x ");
+
+            assertThat(CPF.matchesFormat(candidate))
+                    .as("CPF candidate '%s'", candidate)
+                    .isEqualTo(LEGACY_CPF_PATTERN.matcher(candidate).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("Phone.matchesFormat should accept exactly the strings the legacy regex accepts")
+    void phoneMatchesFormat_agreesWithLegacyRegex_forGeneratedStrings() {
+
+        Random random = new Random(20240518L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            String candidate = mutate(random, PHONE_SEEDS[random.nextInt(PHONE_SEEDS.length)], "0199()-. \t\u000Bx+");
+
+            assertThat(Phone.matchesFormat(candidate))
+                    .as("Phone candidate '%s'", candidate)
+                    .isEqualTo(LEGACY_PHONE_PATTERN.matcher(candidate).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("CPF check digits should reject every single-digit change of a valid CPF")
+    void cpfCheckDigits_rejectSingleDigitChanges_ofValidCpf() {
+
+        String valid = "529.982.247-25";
+        assertThat(CPF.hasValidCheckDigits(CPF.parse(valid))).isTrue();
+
+        for (int i = 0; i < valid.length(); i++) {
+            if (!Character.isDigit(valid.charAt(i))) {
+                continue;
+            }
+            for (char digit = '0'; digit <= '9'; digit++) {
+                if (digit == valid.charAt(i)) {
+                    continue;
+                }
+                String changed = valid.substring(0, i) + digit + valid.substring(i + 1);
+                assertThat(CPF.hasValidCheckDigits(CPF.parse(changed))).as(changed).isFalse();
+            }
+        }
+    }
+
+    static String mutate(Random random, String seed, String alphabet) {
+
+        StringBuilder candidate = new StringBuilder(seed);
+        int mutations = random.nextInt(4);
+
+        for (int i = 0; i < mutations; i++) {
+            int operation = random.nextInt(3);
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+
+            if (operation == 0 || candidate.isEmpty()) {
+                candidate.insert(random.nextInt(candidate.length() + 1), c);
+            } else if (operation == 1) {
+                candidate.deleteCharAt(random.nextInt(candidate.length()));
+            } else {
+                candidate.setCharAt(random.nextInt(candidate.length()), c);
+            }
+        }
+
+        return candidate.toString();
+    }
+}
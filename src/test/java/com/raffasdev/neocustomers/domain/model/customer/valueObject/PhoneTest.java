@@ -13,6 +13,8 @@ class PhoneTest {
 
     private final String validPhone = "11 98765 4321";
 
+    private final long validE164Phone = 5511987654321L;
+
     @Test
     @DisplayName("of should return Phone when valid phone is provided")
     void of_ReturnsPhone_WhenValidPhoneIsProvided() {
@@ -20,7 +22,7 @@ class PhoneTest {
         Phone phone = assertDoesNotThrow(() -> Phone.of(validPhone));
 
         assertNotNull(phone);
-        assertEquals(validPhone, phone.getValue());
+        assertEquals(validE164Phone, phone.getValue());
     }
 
     @Test
@@ -30,12 +32,36 @@ class PhoneTest {
         Phone phone = assertDoesNotThrow(() -> Phone.newPhone(validPhone));
 
         assertNotNull(phone);
-        assertEquals(validPhone, phone.getValue());
+        assertEquals(validE164Phone, phone.getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(11) 98765-4321", "11987654321", "+5511987654321"})
+    @DisplayName("newPhone should normalize every accepted format to the same E.164 number")
+    void newPhone_NormalizesToE164_WhenDifferentFormatsAreProvided(String phone) {
+
+        assertEquals(validE164Phone, Phone.newPhone(phone).getValue());
+    }
+
+    @Test
+    @DisplayName("newPhone should keep landline numbers with ten digits")
+    void newPhone_NormalizesLandline_WhenTenDigitsAreProvided() {
+
+        assertEquals(551133334444L, Phone.newPhone("(11) 3333-4444").getValue());
+    }
+
+    @Test
+    @DisplayName("of should validate a numeric E.164 phone")
+    void of_ValidatesE164_WhenNumericPhoneIsProvided() {
+
+        assertEquals(validE164Phone, Phone.of(validE164Phone).getValue());
+        assertThrows(InvalidPhoneException.class, () -> Phone.of(11987654321L));
     }
 
     @ParameterizedTest
     @NullAndEmptySource
-    @ValueSource(strings = {"1234567", "(11) 98765-432"})
+    @ValueSource(strings = {"1234567", "(11) 98765-432", "98765-4321", "+15551234567", "+55 11987654321",
+            "+18446749585697205937", "+5511987654321000000000"})
     @DisplayName("newPhone should throw InvalidPhoneException when invalid values are provided")
     void newPhone_ThrowsInvalidPhoneException_WhenInvalidValuesPhoneAreProvided(String invalidPhone) {
 
@@ -60,7 +86,15 @@ class PhoneTest {
 
         Phone phone = Phone.of(validPhone);
 
-        assertEquals(phone.getValue(), validPhone);
+        assertEquals(validE164Phone, phone.getValue());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("reconstitute should keep the persisted value without validating it")
+    void reconstitute_skipsValidation_whenValueIsPersisted() {
+
+        Phone phone = Phone.reconstitute(123L);
+
+        assertEquals(123L, phone.getValue());
+    }
+}
@@ -0,0 +1,55 @@
+package com.raffasdev.neocustomers.domain.model.shared.valueObject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailFormatScannerPropertyTest {
+
+    private static final int SAMPLES = 200_000;
+
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,5}$",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    private static final String[] SEEDS = {
+            "john.doe@email.com", "a@b.co", "x+tag%1@sub-domain.example.museum", "A_B@C.D.EF", "a@.b.cd", "@b.cd"
+    };
+
+    private static final String ALPHABET = "aZ09._%+-@.é ";
+
+    @Test
+    @DisplayName("Email.matchesFormat should accept exactly the strings the legacy regex accepts")
+    void emailMatchesFormat_agreesWithLegacyRegex_forGeneratedStrings() {
+
+        Random random = new Random(20240519L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            StringBuilder candidate = new StringBuilder(SEEDS[random.nextInt(SEEDS.length)]);
+            int mutations = random.nextInt(4);
+
+            for (int m = 0; m < mutations; m++) {
+                int operation = random.nextInt(3);
+                char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+
+                if (operation == 0 || candidate.isEmpty()) {
+                    candidate.insert(random.nextInt(candidate.length() + 1), c);
+                } else if (operation == 1) {
+                    candidate.deleteCharAt(random.nextInt(candidate.length()));
+                } else {
+                    candidate.setCharAt(random.nextInt(candidate.length()), c);
+                }
+            }
+
+            String value = candidate.toString();
+            assertThat(Email.matchesFormat(value))
+                    .as("Email candidate '%s'", value)
+                    .isEqualTo(LEGACY_EMAIL_PATTERN.matcher(value).matches());
+        }
+    }
+}
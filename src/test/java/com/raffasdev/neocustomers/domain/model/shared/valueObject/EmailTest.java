@@ -62,4 +62,13 @@ class EmailTest {
 
         assertEquals(email1.getValue(), validEmail);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("reconstitute should keep the persisted value without validating it")
+    void reconstitute_skipsValidation_whenValueIsPersisted() {
+
+        Email email = Email.reconstitute("not-an-email");
+
+        assertEquals("not-an-email", email.getValue());
+    }
+}
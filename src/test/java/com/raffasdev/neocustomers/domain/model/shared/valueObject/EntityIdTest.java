@@ -18,6 +18,26 @@ class EntityIdTest {
         assertFalse(entityId.getValue().toString().isEmpty());
     }
 
+    @Test
+    @DisplayName("newId should create time-ordered version 7 UUIDs")
+    void newId_CreatesTimeOrderedVersion7UUIDs() {
+
+        EntityId first = EntityId.newId();
+        EntityId second = EntityId.newId();
+
+        assertEquals(7, first.getValue().version());
+        assertTrue(second.getValue().compareTo(first.getValue()) > 0);
+    }
+
+    @Test
+    @DisplayName("of should keep accepting existing version 4 UUIDs")
+    void of_KeepsVersion4UUIDs_WhenLegacyIdIsProvided() {
+
+        var legacyUuid = java.util.UUID.randomUUID();
+
+        assertEquals(4, EntityId.of(legacyUuid).getValue().version());
+    }
+
     @Test
     @DisplayName("of should create EntityId with valid UUID")
     void of_CreatesEntityIdWithProvidedUUID() {
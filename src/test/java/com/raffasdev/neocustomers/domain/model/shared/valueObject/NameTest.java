@@ -73,4 +73,12 @@ class NameTest {
         assertEquals(expectedUsername, actualUsername);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("reconstitute should keep the persisted value without validating it")
+    void reconstitute_skipsValidation_whenValueIsPersisted() {
+
+        Name name = Name.reconstitute("A name longer than fifteen characters");
+
+        assertEquals("A name longer than fifteen characters", name.getValue());
+    }
+}
@@ -0,0 +1,100 @@
+package com.raffasdev.neocustomers.domain.model.shared.valueObject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    @DisplayName("generate should build an RFC 9562 version 7 UUID carrying the clock milliseconds")
+    void generate_buildsVersion7Uuid_withClockTimestamp() {
+
+        UUID uuid = new UuidV7Generator(() -> NOW).generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("generate should keep ids strictly increasing within the same millisecond and past the counter limit")
+    void generate_isMonotonic_withinTheSameMillisecond() {
+
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+        UUID previous = generator.generate();
+
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = generator.generate();
+            assertThat(current).isGreaterThan(previous);
+            assertThat(current.version()).isEqualTo(7);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("generate should keep ids increasing when the clock moves backwards")
+    void generate_isMonotonic_whenClockMovesBackwards() {
+
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+        UUID beforeAdjustment = generator.generate();
+        clock.set(NOW - 5_000);
+
+        assertThat(generator.generate()).isGreaterThan(beforeAdjustment);
+    }
+
+    @Test
+    @DisplayName("generate should hand out unique increasing ids per thread when called concurrently")
+    void generate_returnsUniqueIds_whenCalledConcurrently() throws Exception {
+
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int idsPerThread = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    UUID previous = null;
+                    boolean increasing = true;
+                    for (int i = 0; i < idsPerThread; i++) {
+                        UUID current = generator.generate();
+                        increasing &= previous == null || current.compareTo(previous) > 0;
+                        generated.add(current);
+                        previous = current;
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(generated).hasSize(threads * idsPerThread);
+    }
+}
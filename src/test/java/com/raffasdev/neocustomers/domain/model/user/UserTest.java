@@ -28,7 +28,7 @@ class UserTest {
         Set<Role> roles = Set.of(Role.USER_ADMIN);
 
         user = User.create(id, name, email, roles, encodedPassword);
-        reconstitutedUser = User.reconstitute(id, name, email, roles, encodedPassword);
+        reconstitutedUser = User.reconstitute(id, name, email, roles, encodedPassword, 0L);
     }
 
     @Test
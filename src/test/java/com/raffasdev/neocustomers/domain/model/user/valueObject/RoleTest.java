@@ -0,0 +1,41 @@
+package com.raffasdev.neocustomers.domain.model.user.valueObject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleTest {
+
+    @Test
+    @DisplayName("toMask and fromMask should round-trip every role combination")
+    void toMaskAndFromMask_roundTripRoles() {
+
+        EnumSet<Role> allRoles = EnumSet.allOf(Role.class);
+
+        assertThat(Role.fromMask(Role.toMask(allRoles))).isEqualTo(allRoles);
+        assertThat(Role.fromMask(Role.toMask(Set.of()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("toMask should return zero when roles are null")
+    void toMask_returnsZero_whenRolesAreNull() {
+
+        assertThat(Role.toMask(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("every role should own a distinct single bit")
+    void roles_ownDistinctSingleBits() {
+
+        int seen = 0;
+        for (Role role : Role.values()) {
+            assertThat(Integer.bitCount(role.getBit())).isEqualTo(1);
+            assertThat(seen & role.getBit()).isZero();
+            seen |= role.getBit();
+        }
+    }
+}
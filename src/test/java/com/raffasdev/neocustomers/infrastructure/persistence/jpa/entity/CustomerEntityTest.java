@@ -18,8 +18,8 @@ class CustomerEntityTest {
                 UUID.randomUUID(),
                 "username",
                 "teste@gmail.com",
-                "111.111.111-11",
-                "12345671",
+                52998224725L,
+                5511987654321L,
                 LocalDate.now().minusYears(20)
         );
 
@@ -27,8 +27,8 @@ class CustomerEntityTest {
         assertNotNull(customerEntity.getCustomerId());
         assertEquals("username", customerEntity.getName());
         assertEquals("teste@gmail.com", customerEntity.getEmail());
-        assertEquals("111.111.111-11", customerEntity.getCpf());
-        assertEquals("12345671", customerEntity.getPhone());
+        assertEquals(52998224725L, customerEntity.getCpf());
+        assertEquals(5511987654321L, customerEntity.getPhone());
         assertEquals(LocalDate.now().minusYears(20), customerEntity.getBirthDate());
     }
 
@@ -41,8 +41,8 @@ class CustomerEntityTest {
         assertNull(customerEntity.getCustomerId());
         assertNull(customerEntity.getName());
         assertNull(customerEntity.getEmail());
-        assertNull(customerEntity.getCpf());
-        assertNull(customerEntity.getPhone());
+        assertEquals(0L, customerEntity.getCpf());
+        assertEquals(0L, customerEntity.getPhone());
         assertNull(customerEntity.getBirthDate());
     }
 
@@ -19,7 +19,8 @@ class UserEntityTest {
                 "username",
                 "test@gmail.com",
                 Set.of(Role.USER_ADMIN),
-                "password123"
+                "password123",
+                0L
         );
 
         assertNotNull(userEntity);
@@ -54,7 +55,8 @@ class UserEntityTest {
                 "username",
                 "test@gmail.com",
                 expectedAuthorities,
-                "password123"
+                "password123",
+                0L
         );
 
         assertNotNull(userEntity.getAuthorities());
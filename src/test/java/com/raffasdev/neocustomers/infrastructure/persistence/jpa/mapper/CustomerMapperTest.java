@@ -37,7 +37,7 @@ class CustomerMapperTest {
                 id,
                 Name.newName("Username"),
                 Email.newEmail("teste@email.com"),
-                CPF.of("123.456.789-00"),
+                CPF.of("123.456.789-09"),
                 Phone.of("11987654321"),
                 BirthDate.of(LocalDate.now().minusYears(20))
         );
@@ -48,8 +48,8 @@ class CustomerMapperTest {
         assertEquals(id.getValue(), resultEntity.getCustomerId());
         assertEquals("Username", resultEntity.getName());
         assertEquals("teste@email.com", resultEntity.getEmail());
-        assertEquals("123.456.789-00", resultEntity.getCpf());
-        assertEquals("11987654321", resultEntity.getPhone());
+        assertEquals(12345678909L, resultEntity.getCpf());
+        assertEquals(5511987654321L, resultEntity.getPhone());
     }
 
     @Test
@@ -61,8 +61,8 @@ class CustomerMapperTest {
                 id,
                 "Username",
                 "teste@email.com",
-                "123.456.789-00",
-                "11987654321",
+                12345678909L,
+                5511987654321L,
                 LocalDate.now().minusYears(20)
         );
 
@@ -72,8 +72,8 @@ class CustomerMapperTest {
         assertEquals(id, resultDomain.getId().getValue());
         assertEquals("Username", resultDomain.getName());
         assertEquals("teste@email.com", resultDomain.getEmail());
-        assertEquals("123.456.789-00", resultDomain.getCPF());
-        assertEquals("11987654321", resultDomain.getPhone());
+        assertEquals(12345678909L, resultDomain.getCPF());
+        assertEquals(5511987654321L, resultDomain.getPhone());
     }
 
     @Test
@@ -91,8 +91,8 @@ class CustomerMapperTest {
                 UUID.randomUUID(),
                 "Username",
                 "teste@email.com",
-                "123.456.789-00",
-                "11987654321",
+                12345678909L,
+                5511987654321L,
                 LocalDate.now().minusYears(20)
         );
         var optionalEntity = Optional.of(customerEntity);
@@ -113,4 +113,24 @@ class CustomerMapperTest {
 
         assertTrue(resultOptional.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("toDomain should trust persisted values and not run value object validation")
+    void toDomain_skipsValidation_whenEntityIsLoaded() {
+
+        CustomerEntity legacyEntity = CustomerEntity.create(
+                UUID.randomUUID(),
+                "A legacy name longer than the current limit",
+                "legacy@email.com",
+                12345678900L,
+                11987654321L,
+                LocalDate.now().minusYears(20)
+        );
+
+        Customer resultDomain = assertDoesNotThrow(() -> customerMapper.toDomain(legacyEntity));
+
+        assertEquals("A legacy name longer than the current limit", resultDomain.getName());
+        assertEquals(12345678900L, resultDomain.getCPF());
+        assertEquals(11987654321L, resultDomain.getPhone());
+    }
+}
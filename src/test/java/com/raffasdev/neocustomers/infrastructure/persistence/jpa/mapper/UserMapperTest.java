@@ -58,7 +58,8 @@ class UserMapperTest {
                 "username",
                 "test@gmail.com",
                 Set.of(Role.USER_ADMIN),
-                "encodedPassword123"
+                "encodedPassword123",
+                0L
         );
 
         User resultDomain = userMapper.toDomain(userEntity);
@@ -89,7 +90,8 @@ class UserMapperTest {
                 "username",
                 "test@gmail.com",
                 Set.of(Role.USER_ADMIN),
-                "encodedPassword123"
+                "encodedPassword123",
+                0L
         ));
 
         Optional<User> optionalUser = userMapper.toOptionalDomain(optionalUserEntity);
@@ -0,0 +1,76 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CustomerCanonicalColumnsMigrationTest {
+
+    private static final String INSERT_SQL = "insert into customers (customer_id, name, email, cpf, phone, birthdate) "
+            + "values (?, 'legacy', ?, ?, ?, date '2000-01-20')";
+
+    @Autowired
+    private CustomerCanonicalColumnsMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+
+        jdbcTemplate.execute("alter table customers alter column cpf set data type varchar(14)");
+        jdbcTemplate.execute("alter table customers alter column phone set data type varchar(20)");
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        jdbcTemplate.execute("delete from customers");
+        jdbcTemplate.execute("alter table customers alter column cpf set data type bigint");
+        jdbcTemplate.execute("alter table customers alter column phone set data type bigint");
+    }
+
+    @Test
+    @DisplayName("migrate should convert legacy cpf and phone text into canonical bigint values")
+    void migrate_convertsLegacyColumns_toCanonicalBigint() {
+
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_SQL, id, "legacy@email.com", "111.222.333-96", "(11) 98765-4321");
+
+        assertThat(migration.migrate()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForObject("select cpf from customers where customer_id = ?", Long.class, id))
+                .isEqualTo(11122233396L);
+        assertThat(jdbcTemplate.queryForObject("select phone from customers where customer_id = ?", Long.class, id))
+                .isEqualTo(5511987654321L);
+    }
+
+    @Test
+    @DisplayName("migrate should fail listing the customers whose phone has no area code and convert nothing")
+    void migrate_fails_whenPhonesHaveNoAreaCode() {
+
+        UUID withoutAreaCode = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_SQL, withoutAreaCode, "local@email.com", "111.222.333-96", "98765-4321");
+        jdbcTemplate.update(INSERT_SQL, UUID.randomUUID(), "legacy@email.com", "222.333.444-05", "(11) 98765-4321");
+
+        assertThatThrownBy(() -> migration.migrate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("1 customers have a phone without area code")
+                .hasMessageContaining(withoutAreaCode + "=98765-4321");
+
+        assertThat(jdbcTemplate.queryForObject("select cpf from customers where customer_id = ?", String.class,
+                withoutAreaCode)).isEqualTo("111.222.333-96");
+    }
+}
@@ -0,0 +1,78 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.migration;
+
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.UserEntity;
+import com.raffasdev.neocustomers.infrastructure.security.PrincipalCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class UserRoleMaskMigrationTest {
+
+    @Autowired
+    private UserRoleMaskMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @AfterEach
+    void tearDown() {
+
+        jdbcTemplate.execute("drop table if exists user_roles");
+        jdbcTemplate.execute("delete from users where email in ('legacy@email.com', 'migrated@email.com')");
+    }
+
+    @Test
+    @DisplayName("migrate should do nothing when the legacy user_roles table does not exist")
+    void migrate_doesNothing_whenLegacyTableIsMissing() {
+
+        assertThat(migration.migrate()).isZero();
+    }
+
+    @Test
+    @DisplayName("migrate should copy legacy role rows into the bitmask column only once and drop cached principals")
+    void migrate_backfillsRoleMask_fromLegacyTable() {
+
+        UUID legacyUserId = UUID.randomUUID();
+        UUID migratedUserId = UUID.randomUUID();
+
+        jdbcTemplate.execute("create table user_roles (user_id uuid not null, roles varchar(255) not null)");
+        jdbcTemplate.update("insert into users (user_id, name, email, password, role_mask, token_version) values (?, 'legacy', 'legacy@email.com', 'pwd', 0, 0)", legacyUserId);
+        jdbcTemplate.update("insert into users (user_id, name, email, password, role_mask, token_version) values (?, 'migrated', 'migrated@email.com', 'pwd', 0, 0)", migratedUserId);
+        jdbcTemplate.update("insert into user_roles (user_id, roles) values (?, 'USER_ADMIN')", legacyUserId);
+        principalCache.get("legacy@email.com", email -> Optional.of(mock(UserEntity.class)));
+
+        assertThat(migration.migrate()).isEqualTo(1);
+        assertThat(migration.migrate()).isZero();
+        assertThat(principalCache.get("legacy@email.com", email -> Optional.empty())).isEmpty();
+
+        assertThat(jdbcTemplate.queryForObject("select role_mask from users where user_id = ?", Integer.class, legacyUserId))
+                .isEqualTo(Role.USER_ADMIN.getBit());
+        assertThat(jdbcTemplate.queryForObject("select role_mask from users where user_id = ?", Integer.class, migratedUserId))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("UserRoleMaskMigration should run during context startup, before the web server accepts requests")
+    void migration_runsBeforeWebServerStarts() {
+
+        assertThat(migration).isInstanceOf(SmartInitializingSingleton.class).isNotInstanceOf(ApplicationRunner.class);
+    }
+}
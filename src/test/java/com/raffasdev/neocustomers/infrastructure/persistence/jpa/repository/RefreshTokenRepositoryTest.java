@@ -0,0 +1,98 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository;
+
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.domain.model.user.User;
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.RefreshTokenEntity;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.UserEntity;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.mapper.UserMapper;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.IRefreshTokenJpaRepository;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.IUserJpaRepository;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.RefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRepositoryTest {
+
+    @Mock
+    private IRefreshTokenJpaRepository jpaRepositoryMock;
+
+    @Mock
+    private IUserJpaRepository userJpaRepositoryMock;
+
+    @Mock
+    private UserMapper userMapperMock;
+
+    @InjectMocks
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    @DisplayName("save should persist the token hash bound to a reference of the user")
+    void save_persistsTokenHash_withUserReference() {
+
+        var userId = EntityId.newId();
+        var expiresAt = Instant.now();
+        var userReference = new UserEntity();
+
+        given(userJpaRepositoryMock.getReferenceById(userId.getValue())).willReturn(userReference);
+
+        refreshTokenRepository.save("hash", userId, expiresAt);
+
+        ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(jpaRepositoryMock).save(captor.capture());
+
+        assertEquals("hash", captor.getValue().getTokenHash());
+        assertSame(userReference, captor.getValue().getUser());
+        assertEquals(expiresAt, captor.getValue().getExpiresAt());
+        assertTrue(captor.getValue().isNew());
+    }
+
+    @Test
+    @DisplayName("findUserByActiveTokenHash should return the mapped owner when token is active")
+    void findUserByActiveTokenHash_returnsMappedUser_whenTokenIsActive() {
+
+        var now = Instant.now();
+        var userEntity = new UserEntity();
+        var refreshToken = RefreshTokenEntity.create("hash", userEntity, now.plusSeconds(60));
+        var user = User.create(
+                EntityId.newId(),
+                Name.newName("username"),
+                Email.newEmail("test@email.com"),
+                Set.of(Role.USER_ADMIN),
+                "encodedPassword"
+        );
+
+        given(jpaRepositoryMock.findActiveByTokenHash("hash", now)).willReturn(Optional.of(refreshToken));
+        given(userMapperMock.toDomain(userEntity)).willReturn(user);
+
+        Optional<User> result = refreshTokenRepository.findUserByActiveTokenHash("hash", now);
+
+        assertTrue(result.isPresent());
+        assertEquals(user, result.get());
+    }
+
+    @Test
+    @DisplayName("deleteByTokenHash should return false when no row was deleted")
+    void deleteByTokenHash_returnsFalse_whenNoRowWasDeleted() {
+
+        given(jpaRepositoryMock.deleteByTokenHash("hash")).willReturn(0);
+
+        assertFalse(refreshTokenRepository.deleteByTokenHash("hash"));
+    }
+}
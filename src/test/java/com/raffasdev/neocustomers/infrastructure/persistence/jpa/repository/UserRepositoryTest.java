@@ -58,7 +58,8 @@ class UserRepositoryTest {
                 Name.newName("username"),
                 Email.newEmail("test@email.com"),
                 Set.of(Role.USER_ADMIN),
-                "encodedPassword"
+                "encodedPassword",
+                0L
         );
 
         given(userMapperMock.toEntity(userToSave)).willReturn(userEntityToSave);
@@ -129,4 +130,14 @@ class UserRepositoryTest {
         verify(userMapperMock, times(1)).toOptionalDomain(entityOptional);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("updatePassword should update only the password column of the user")
+    void updatePassword_delegatesToJpaRepository() {
+
+        var id = EntityId.newId();
+
+        userRepository.updatePassword(id, "{bcrypt}newHash");
+
+        verify(jpaRepositoryMock, times(1)).updatePassword(id.getValue(), "{bcrypt}newHash");
+    }
+}
@@ -0,0 +1,149 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.application.exception.BulkCopyUnavailableException;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerLoadResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerCopyRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplateMock;
+
+    @Mock
+    private Connection connectionMock;
+
+    @Mock
+    private DatabaseMetaData metaDataMock;
+
+    @Mock
+    private PGConnection pgConnectionMock;
+
+    @Mock
+    private CopyManager copyManagerMock;
+
+    @Mock
+    private Statement statementMock;
+
+    private CustomerCopyRepository customerCopyRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        given(jdbcTemplateMock.execute(any(ConnectionCallback.class))).willAnswer(invocation ->
+                invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connectionMock));
+        given(connectionMock.getMetaData()).willReturn(metaDataMock);
+
+        customerCopyRepository = new CustomerCopyRepository(jdbcTemplateMock);
+    }
+
+    @Test
+    @DisplayName("load should copy the CSV into a temp staging table and merge it on CPF conflicts")
+    void load_copiesIntoStagingTable_andMergesOnCpf() throws Exception {
+
+        this.givenPostgresConnection();
+        given(connectionMock.createStatement()).willReturn(statementMock);
+        InputStream csv = new ByteArrayInputStream("customer_id,name\n".getBytes(StandardCharsets.UTF_8));
+        given(copyManagerMock.copyIn(eq(CustomerCopyRepository.COPY_IN_SQL), any(InputStream.class))).willReturn(5L);
+        given(statementMock.executeUpdate(CustomerCopyRepository.MERGE_SQL)).willReturn(4);
+
+        CustomerLoadResult result = customerCopyRepository.load(csv);
+
+        assertThat(result).isEqualTo(new CustomerLoadResult(5, 4));
+        InOrder inOrder = inOrder(statementMock, copyManagerMock);
+        inOrder.verify(statementMock).execute(CustomerCopyRepository.CREATE_STAGING_SQL);
+        inOrder.verify(copyManagerMock).copyIn(eq(CustomerCopyRepository.COPY_IN_SQL), any(InputStream.class));
+        inOrder.verify(statementMock).executeUpdate(CustomerCopyRepository.MERGE_SQL);
+        verify(statementMock).close();
+        assertThat(CustomerCopyRepository.MERGE_SQL).contains("on conflict (cpf) do update");
+    }
+
+    @Test
+    @DisplayName("load should fill empty customer ids with UUIDv7 and keep the ids and quoted fields of the file")
+    void load_fillsEmptyCustomerIdsWithUuidV7_andKeepsTheRestOfTheFile() throws Exception {
+
+        this.givenPostgresConnection();
+        given(connectionMock.createStatement()).willReturn(statementMock);
+        UUID existingId = UUID.randomUUID();
+        String csv = "customer_id,name,email,cpf,phone,birthdate\n"
+                + existingId + ",Ana,ana@email.com,11122233396,5511911112222,2000-01-20\n"
+                + ",\"Bia\n,Lima\",bia@email.com,22233344405,5511911113333,1990-05-10\r\n"
+                + ",Carla,carla@email.com,33344455506,,\n";
+        ByteArrayOutputStream copied = new ByteArrayOutputStream();
+        given(copyManagerMock.copyIn(eq(CustomerCopyRepository.COPY_IN_SQL), any(InputStream.class)))
+                .willAnswer(invocation -> invocation.<InputStream>getArgument(1).transferTo(copied));
+
+        customerCopyRepository.load(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        List<String> lines = copied.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines.get(0)).isEqualTo("customer_id,name,email,cpf,phone,birthdate");
+        assertThat(lines.get(1)).startsWith(existingId + ",Ana,");
+        assertThat(lines.get(3)).isEqualTo(",Lima\",bia@email.com,22233344405,5511911113333,1990-05-10");
+        assertThat(Stream.of(lines.get(2), lines.get(4)).map(line -> UUID.fromString(line.substring(0, 36))))
+                .allSatisfy(id -> assertThat(id.version()).isEqualTo(7))
+                .doesNotHaveDuplicates();
+        assertThat(lines.get(4)).endsWith(",Carla,carla@email.com,33344455506,,");
+    }
+
+    @Test
+    @DisplayName("export should stream COPY TO STDOUT straight into the given output")
+    void export_streamsCopyOutIntoOutput() throws Exception {
+
+        this.givenPostgresConnection();
+        OutputStream csv = new ByteArrayOutputStream();
+        given(copyManagerMock.copyOut(CustomerCopyRepository.COPY_OUT_SQL, csv)).willReturn(7L);
+
+        assertThat(customerCopyRepository.export(csv)).isEqualTo(7);
+        verify(copyManagerMock).copyOut(CustomerCopyRepository.COPY_OUT_SQL, csv);
+    }
+
+    @Test
+    @DisplayName("load and export should throw BulkCopyUnavailableException when the database is not PostgreSQL")
+    void loadAndExport_throwBulkCopyUnavailableException_whenDatabaseIsNotPostgres() throws Exception {
+
+        given(metaDataMock.getDatabaseProductName()).willReturn("H2");
+
+        assertThat(customerCopyRepository.isAvailable()).isFalse();
+        assertThatThrownBy(() -> customerCopyRepository.load(new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(BulkCopyUnavailableException.class);
+        assertThatThrownBy(() -> customerCopyRepository.export(new ByteArrayOutputStream()))
+                .isInstanceOf(BulkCopyUnavailableException.class);
+        verifyNoInteractions(copyManagerMock, statementMock);
+    }
+
+    private void givenPostgresConnection() throws Exception {
+
+        given(metaDataMock.getDatabaseProductName()).willReturn("PostgreSQL");
+        given(connectionMock.unwrap(PGConnection.class)).willReturn(pgConnectionMock);
+        given(pgConnectionMock.getCopyAPI()).willReturn(copyManagerMock);
+    }
+}
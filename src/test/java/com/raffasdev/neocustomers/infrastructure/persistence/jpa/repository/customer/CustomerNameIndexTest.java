@@ -0,0 +1,180 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.application.service.CustomerApplicationService;
+import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "customers.search.name-index.enabled=true")
+@ActiveProfiles("test")
+class CustomerNameIndexTest {
+
+    @Autowired
+    private CustomerNameIndex customerNameIndex;
+
+    @Autowired
+    private CustomerApplicationService customerApplicationService;
+
+    @Autowired
+    private ICustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+
+        customerJpaRepository.deleteAll();
+        customerNameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("rebuild should index every existing customer from a streaming scan")
+    void rebuild_indexesExistingCustomers_fromStreamingScan() {
+
+        UUID customerId = UUID.randomUUID();
+        customerJpaRepository.save(CustomerEntity.create(customerId, "Bootstrap Name", "bootstrap@email.com",
+                12345678909L, 5511999998888L, LocalDate.now().minusYears(20)));
+
+        customerNameIndex.rebuild();
+
+        assertThat(customerNameIndex.search("strap", Pageable.ofSize(10)).getContent()).containsExactly(customerId);
+    }
+
+    @Test
+    @DisplayName("save, updateById and deleteById should keep the index in sync and searchSummariesByName should hydrate from it")
+    void applicationServiceWrites_keepIndexInSync_andSearchHydratesFromIndex() {
+
+        Customer ana = customerApplicationService.save("Ana Souza", "ana@email.com", "111.222.333-96",
+                "11911112222", LocalDate.now().minusYears(20));
+        Customer bruno = customerApplicationService.save("Bruno Souza", "bruno@email.com", "222.333.444-05",
+                "11911113333", LocalDate.now().minusYears(30));
+
+        Pageable byIdDescending = PageRequest.of(0, 1, Sort.by("customerId").descending());
+        Page<CustomerSummary> firstPage = customerApplicationService.searchSummariesByName("souza", byIdDescending);
+
+        assertThat(customerNameIndex.canServe(byIdDescending)).isTrue();
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getContent()).extracting(CustomerSummary::name).containsExactly("Bruno Souza");
+
+        customerApplicationService.updateById(ana.getId().getValue(), "Ana Lima", null, null, null);
+        customerApplicationService.deleteById(bruno.getId().getValue());
+
+        assertThat(customerNameIndex.search("souza", Pageable.ofSize(10)).getContent()).isEmpty();
+        assertThat(customerNameIndex.search("lima", Pageable.ofSize(10)).getContent())
+                .containsExactly(ana.getId().getValue());
+    }
+
+    @Test
+    @DisplayName("canServe should return false when the sort depends on the database collation or on columns the index does not hold")
+    void canServe_returnsFalse_whenSortIsNotSupported() {
+
+        assertThat(customerNameIndex.canServe(PageRequest.of(0, 10, Sort.by("email")))).isFalse();
+        assertThat(customerNameIndex.canServe(PageRequest.of(0, 10, Sort.by("name")))).isFalse();
+        assertThat(customerNameIndex.canServe(PageRequest.of(0, 10, Sort.by("name", "customerId")))).isFalse();
+        assertThat(customerNameIndex.canServe(PageRequest.of(0, 10, Sort.by("customerId", "name")))).isTrue();
+        assertThat(customerNameIndex.canServe(Pageable.ofSize(10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("search should page through the matches in unsigned customerId order")
+    void search_pagesThroughMatches_inUnsignedCustomerIdOrder() {
+
+        List<UUID> ids = Stream.of(
+                        "80000000-0000-7000-8000-000000000000", "00000000-0000-7000-8000-000000000003",
+                        "ffffffff-0000-7000-8000-000000000000", "00000000-0000-7000-8000-000000000001",
+                        "7fffffff-0000-7000-8000-000000000000", "00000000-0000-7000-8000-000000000002")
+                .map(UUID::fromString)
+                .toList();
+        for (int i = 0; i < ids.size(); i++) {
+            customerNameIndex.put(ids.get(i), "Cliente Paginado " + i);
+        }
+        Comparator<UUID> unsigned = Comparator.comparing(UUID::toString);
+        List<UUID> ascending = ids.stream().sorted(unsigned).toList();
+        List<UUID> descending = ids.stream().sorted(unsigned.reversed()).toList();
+
+        Page<UUID> secondPage = customerNameIndex.search("paginado", PageRequest.of(1, 4, Sort.by("customerId")));
+        Page<UUID> firstDescending = customerNameIndex.search("paginado",
+                PageRequest.of(0, 4, Sort.by("customerId").descending()));
+
+        assertThat(secondPage.getTotalElements()).isEqualTo(6);
+        assertThat(secondPage.getContent()).containsExactlyElementsOf(ascending.subList(4, 6));
+        assertThat(firstDescending.getContent()).containsExactlyElementsOf(descending.subList(0, 4));
+    }
+
+    @Test
+    @DisplayName("rebuild should coalesce overlapping rebuilds and keep the writes made while they run")
+    void rebuild_coalescesOverlappingRebuilds_andKeepsConcurrentWrites() throws Exception {
+
+        UUID anaId = UUID.randomUUID();
+        UUID brunoId = UUID.randomUUID();
+        UUID carlaId = UUID.randomUUID();
+        UUID danielId = UUID.randomUUID();
+        CountDownLatch firstScanStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstScan = new CountDownLatch(1);
+        ICustomerJpaRepository repositoryMock = mock(ICustomerJpaRepository.class);
+        given(repositoryMock.streamAllNames())
+                .willAnswer(invocation -> {
+                    firstScanStarted.countDown();
+                    releaseFirstScan.await(5, TimeUnit.SECONDS);
+                    return Stream.of(new CustomerNameRow(anaId, "Ana Souza"));
+                })
+                .willAnswer(invocation -> Stream.of(
+                        new CustomerNameRow(anaId, "Ana Souza"),
+                        new CustomerNameRow(brunoId, "Bruno Souza"),
+                        new CustomerNameRow(carlaId, "Carla Souza"),
+                        new CustomerNameRow(danielId, "Daniel Lima")));
+        CustomerNameIndex index = new CustomerNameIndex(repositoryMock, transactionManager, true, 16);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> first = executor.submit(index::rebuild);
+            assertThat(firstScanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            index.put(carlaId, "Carla Souza");
+            Future<?> second = executor.submit(index::rebuild);
+            second.get(5, TimeUnit.SECONDS);
+            index.put(danielId, "Daniel Lima");
+
+            releaseFirstScan.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(repositoryMock, times(2)).streamAllNames();
+        assertThat(index.search("souza", Pageable.ofSize(10)).getContent())
+                .containsExactlyInAnyOrder(anaId, brunoId, carlaId);
+        assertThat(index.search("lima", Pageable.ofSize(10)).getContent()).containsExactly(danielId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerCount;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CustomerNameTrigramIndexTest {
+
+    @Autowired
+    private CustomerNameTrigramIndex customerNameTrigramIndex;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ICustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private CustomerCountEstimator customerCountEstimator;
+
+    @AfterEach
+    void tearDown() {
+
+        customerJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("initialize should leave the trigram index unavailable and searchSummariesByName should fall back when the database is not PostgreSQL")
+    void initialize_fallsBack_whenDatabaseIsNotPostgres() {
+
+        customerNameTrigramIndex.initialize();
+
+        customerRepository.save(Customer.create(
+                EntityId.newId(),
+                Name.newName("Trigram Search"),
+                Email.newEmail("trigram@email.com"),
+                CPF.of("123.456.789-09"),
+                Phone.of("11999998888"),
+                BirthDate.of(LocalDate.now().minusYears(20))
+        ));
+
+        Page<CustomerSummary> result = customerRepository.searchSummariesByName("gram sea", Pageable.ofSize(10));
+
+        assertThat(customerNameTrigramIndex.isAvailable()).isFalse();
+        assertThat(result.getContent()).extracting(CustomerSummary::name)
+                .containsExactly("Trigram Search");
+    }
+
+    @Test
+    @DisplayName("count-free and approximate paths should fall back to derived queries and exact counts when the database is not PostgreSQL")
+    void sliceAndCount_fallBack_whenDatabaseIsNotPostgres() {
+
+        customerRepository.save(Customer.create(
+                EntityId.newId(),
+                Name.newName("Slice Search"),
+                Email.newEmail("slice@email.com"),
+                CPF.of("123.456.789-09"),
+                Phone.of("11999998888"),
+                BirthDate.of(LocalDate.now().minusYears(20))
+        ));
+
+        Slice<CustomerSummary> slice = customerRepository.searchSummariesSliceByName("ice sea", Pageable.ofSize(10));
+
+        assertThat(slice.getContent()).extracting(CustomerSummary::name).containsExactly("Slice Search");
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(customerCountEstimator.estimateAll()).isEmpty();
+        assertThat(customerRepository.countAll(true)).isEqualTo(CustomerCount.exact(1));
+        assertThat(customerRepository.countByName("ice sea", true)).isEqualTo(CustomerCount.exact(1));
+    }
+
+    @Test
+    @DisplayName("searchIdSliceByNameTrigram and searchIdsByNameTrigram should return the ids of the matching customers in column sort order")
+    void searchIdSliceByNameTrigram_returnsMatchingIds_inColumnSortOrder() {
+
+        EntityId customerId = EntityId.newId();
+        customerRepository.save(Customer.create(
+                customerId,
+                Name.newName("Native Search"),
+                Email.newEmail("native@email.com"),
+                CPF.of("123.456.789-09"),
+                Phone.of("11999998888"),
+                BirthDate.of(LocalDate.now().minusYears(20))
+        ));
+
+        Slice<String> slice = customerJpaRepository
+                .searchIdSliceByNameTrigram("%ive sea%", PageRequest.of(0, 10, Sort.by("birthdate")));
+
+        assertThat(slice.getContent()).containsExactly(customerId.getValue().toString());
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(customerJpaRepository.searchIdsByNameTrigram("%ive sea%", Pageable.ofSize(10)).getTotalElements())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,147 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
+import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CustomerRepositoryQueryCountTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ICustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        statistics.setStatisticsEnabled(false);
+        customerJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("save should insert a new customer with a single statement and no select by id")
+    void save_issuesSingleInsert_whenCustomerIsNew() {
+
+        customerRepository.save(this.newCustomer(EntityId.newId(), "Ana Souza"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("updateById should change only the given columns with a single update statement")
+    void updateById_issuesSingleUpdate_whenCustomerExists() {
+
+        EntityId id = EntityId.newId();
+        customerRepository.save(this.newCustomer(id, "Ana Souza"));
+        statistics.clear();
+
+        int updated = customerRepository.updateById(id.getValue(), Name.newName("Ana Lima"), null,
+                Phone.newPhone("11933334444"), null);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        CustomerEntity entity = customerJpaRepository.findById(id.getValue()).orElseThrow();
+        assertThat(entity.getName()).isEqualTo("Ana Lima");
+        assertThat(entity.getPhone()).isEqualTo(5511933334444L);
+        assertThat(entity.getEmail()).isEqualTo("ana@email.com");
+    }
+
+    @Test
+    @DisplayName("updateById should return zero rows with a single statement when the customer does not exist")
+    void updateById_returnsZero_whenCustomerDoesNotExist() {
+
+        int updated = customerRepository.updateById(UUID.randomUUID(), Name.newName("Ana Lima"), null, null, null);
+
+        assertThat(updated).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deleteById should delete with a single statement and report the affected rows")
+    void deleteById_issuesSingleDelete_andReportsAffectedRows() {
+
+        EntityId id = EntityId.newId();
+        customerRepository.save(this.newCustomer(id, "Ana Souza"));
+        statistics.clear();
+
+        assertThat(customerRepository.deleteById(id.getValue())).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(customerRepository.deleteById(id.getValue())).isZero();
+    }
+
+    @Test
+    @DisplayName("deleteAllById should run one delete statement per batch of ids")
+    void deleteAllById_issuesOneStatementPerBatch() {
+
+        EntityId id = EntityId.newId();
+        customerRepository.save(this.newCustomer(id, "Ana Souza"));
+        List<UUID> ids = new ArrayList<>();
+        ids.add(id.getValue());
+        for (int i = 1; i < CustomerRepository.DELETE_BATCH_SIZE * 2 + 1; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        ids.add(id.getValue());
+        statistics.clear();
+
+        int deleted = customerRepository.deleteAllById(ids);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(customerJpaRepository.count()).isZero();
+    }
+
+    private Customer newCustomer(EntityId id, String name) {
+
+        return Customer.create(
+                id,
+                Name.newName(name),
+                Email.newEmail("ana@email.com"),
+                CPF.of("111.222.333-96"),
+                Phone.of("11911112222"),
+                BirthDate.of(LocalDate.now().minusYears(20))
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CustomerRepositoryScrollTest {
+
+    private static final Sort NAME_THEN_ID = Sort.by(Sort.Order.asc("name"), Sort.Order.asc("customerId"));
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ICustomerJpaRepository customerJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+
+        String[] names = {"Carla Souza", "Ana Souza", "Bruno Lima", "Ana Souza", "Daniel Souza"};
+        for (int i = 0; i < names.length; i++) {
+            customerJpaRepository.save(CustomerEntity.create(UUID.randomUUID(), names[i], "scroll" + i + "@email.com",
+                    1112223334L * 10 + i, 5511911112220L + i, LocalDate.now().minusYears(20 + i)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        customerJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("scrollSummaries should walk every customer exactly once in sort order using keyset positions")
+    void scroll_walksEveryCustomerOnce_whenFollowingPositions() {
+
+        List<String> names = this.walk(null);
+
+        assertThat(names).containsExactly("Ana Souza", "Ana Souza", "Bruno Lima", "Carla Souza", "Daniel Souza");
+    }
+
+    @Test
+    @DisplayName("scrollSummaries should apply the name filter together with the keyset predicate")
+    void scroll_filtersByName_whenNameIsProvided() {
+
+        List<String> names = this.walk("souza");
+
+        assertThat(names).containsExactly("Ana Souza", "Ana Souza", "Carla Souza", "Daniel Souza");
+    }
+
+    private List<String> walk(String name) {
+
+        List<String> names = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<CustomerSummary> window;
+
+        do {
+            window = customerRepository.scrollSummaries(name, position, NAME_THEN_ID, 2);
+            window.forEach(customer -> names.add(customer.name()));
+            if (!window.isEmpty()) {
+                position = window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+
+        return names;
+    }
+}
@@ -1,6 +1,8 @@
 package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
 
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerCount;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
@@ -15,13 +17,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +45,15 @@ class CustomerRepositoryTest {
     @Mock
     private CustomerMapper customerMapperMock;
 
+    @Mock
+    private CustomerNameTrigramIndex customerNameTrigramIndexMock;
+
+    @Mock
+    private CustomerNameIndex customerNameIndexMock;
+
+    @Mock
+    private CustomerCountEstimator customerCountEstimatorMock;
+
     @InjectMocks
     private CustomerRepository customerRepository;
 
@@ -50,7 +65,7 @@ class CustomerRepositoryTest {
                 EntityId.newId(),
                 Name.newName("Test"),
                 Email.newEmail("test@test.com"),
-                CPF.of("123.456.789-00"),
+                CPF.of("123.456.789-09"),
                 Phone.of("11999998888"),
                 BirthDate.of(LocalDate.now().minusYears(20))
         );
@@ -61,13 +76,13 @@ class CustomerRepositoryTest {
                 EntityId.newId(),
                 Name.newName("Test"),
                 Email.newEmail("test@test.com"),
-                CPF.of("123.456.789-00"),
+                CPF.of("123.456.789-09"),
                 Phone.of("11999998888"),
                 BirthDate.of(LocalDate.now().minusYears(20))
         );
 
         given(customerMapperMock.toEntity(customerToSave)).willReturn(customerEntity);
-        given(jpaRepositoryMock.save(customerEntity)).willReturn(savedEntity);
+        given(jpaRepositoryMock.saveAndFlush(customerEntity)).willReturn(savedEntity);
         given(customerMapperMock.toDomain(savedEntity)).willReturn(expectedSavedCustomer);
 
         Customer actualSavedCustomer = customerRepository.save(customerToSave);
@@ -75,38 +90,47 @@ class CustomerRepositoryTest {
         assertNotNull(actualSavedCustomer);
         assertEquals(expectedSavedCustomer, actualSavedCustomer);
         verify(customerMapperMock, times(1)).toEntity(customerToSave);
-        verify(jpaRepositoryMock, times(1)).save(customerEntity);
+        verify(jpaRepositoryMock, times(1)).saveAndFlush(customerEntity);
         verify(customerMapperMock, times(1)).toDomain(savedEntity);
     }
 
     @Test
-    @DisplayName("findAll should return a Page of mapped domain Customers")
-    void findAll_returnsPageOfCustomers_always() {
-
-        Pageable pageable = Pageable.unpaged();
-        CustomerEntity customerEntity = new CustomerEntity();
-        Page<CustomerEntity> entityPage = new PageImpl<>(List.of(customerEntity));
+    @DisplayName("save should hand a new entity to JPA so it is persisted without a merge")
+    void save_passesNewEntity_always() {
 
-        Customer customerDomain = Customer.create(
+        Customer customer = Customer.create(
                 EntityId.newId(),
                 Name.newName("Test"),
                 Email.newEmail("test@test.com"),
-                CPF.of("123.456.789-00"),
+                CPF.of("123.456.789-09"),
                 Phone.of("11999998888"),
                 BirthDate.of(LocalDate.now().minusYears(20))
         );
+        CustomerEntity newEntity = new CustomerEntity();
 
-        Page<Customer> expectedDomainPage = new PageImpl<>(List.of(customerDomain));
+        given(customerMapperMock.toEntity(customer)).willReturn(newEntity);
+        given(jpaRepositoryMock.saveAndFlush(any(CustomerEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
 
-        given(jpaRepositoryMock.findAll(pageable)).willReturn(entityPage);
-        given(customerMapperMock.toDomain(any(CustomerEntity.class))).willReturn(customerDomain);
+        customerRepository.save(customer);
 
-        Page<Customer> actualDomainPage = customerRepository.findAll(pageable);
+        assertTrue(newEntity.isNew());
+    }
 
-        assertFalse(actualDomainPage.isEmpty());
-        assertEquals(1, actualDomainPage.getTotalElements());
-        assertEquals(expectedDomainPage.getContent().get(0), actualDomainPage.getContent().get(0));
-        verify(jpaRepositoryMock, times(1)).findAll(pageable);
+    @Test
+    @DisplayName("findAllSummariesSlice should return the summary slice from the projection query")
+    void findAllSummariesSlice_returnsSummarySlice_always() {
+
+        Pageable pageable = Pageable.ofSize(10);
+        Slice<CustomerSummary> summarySlice = new SliceImpl<>(List.of(
+                new CustomerSummary(UUID.randomUUID(), "Test", "test@test.com", 12345678909L, 5511999998888L, 20)),
+                pageable, true);
+
+        given(jpaRepositoryMock.findAllSummariesSlice(pageable)).willReturn(summarySlice);
+
+        Slice<CustomerSummary> actualSlice = customerRepository.findAllSummariesSlice(pageable);
+
+        assertSame(summarySlice, actualSlice);
+        verify(jpaRepositoryMock, times(0)).findAll(any(Pageable.class));
     }
 
     @Test
@@ -119,7 +143,7 @@ class CustomerRepositoryTest {
                 EntityId.of(customerId),
                 Name.newName("Test"),
                 Email.newEmail("test@test.com"),
-                CPF.of("123.456.789-00"),
+                CPF.of("123.456.789-09"),
                 Phone.of("11999998888"),
                 BirthDate.of(LocalDate.now().minusYears(20))
         ));
@@ -155,39 +179,156 @@ class CustomerRepositoryTest {
 
         UUID customerId = UUID.randomUUID();
 
-        customerRepository.deleteById(customerId);
+        given(jpaRepositoryMock.deleteByCustomerId(customerId)).willReturn(1);
 
-        verify(jpaRepositoryMock, times(1)).deleteById(customerId);
+        assertEquals(1, customerRepository.deleteById(customerId));
+        verify(jpaRepositoryMock, times(1)).deleteByCustomerId(customerId);
     }
 
     @Test
-    @DisplayName("searchByName should return a Page of mapped domain Customers")
-    void searchByName_returnsPageOfCustomers_whenNameIsFound() {
+    @DisplayName("searchSummariesSliceByName should use the case-insensitive projection query when the trigram index is unavailable")
+    void searchSummariesSliceByName_usesProjectionQuery_whenTrigramIndexIsUnavailable() {
 
-        String nameFragment = "te";
         Pageable pageable = Pageable.ofSize(10);
-        CustomerEntity customerEntity = new CustomerEntity();
-        Page<CustomerEntity> entityPage = new PageImpl<>(List.of(customerEntity));
+        Slice<CustomerSummary> summarySlice = new SliceImpl<>(List.of(
+                new CustomerSummary(UUID.randomUUID(), "test", "teste@gmail.com", 12345678909L, 5511999998888L, 20)));
 
-        Customer customerDomain = Customer.create(
-                EntityId.newId(),
-                Name.newName("test"),
-                Email.newEmail("teste@gmail.com"),
-                CPF.of("123.456.789-00"),
-                Phone.of("11999998888"),
-                BirthDate.of(LocalDate.now().minusYears(20))
-        );
+        given(jpaRepositoryMock.searchSummariesSliceByName("%te%", pageable)).willReturn(summarySlice);
 
-        given(jpaRepositoryMock.findByNameIgnoreCaseContaining(nameFragment, pageable)).willReturn(entityPage);
-        given(customerMapperMock.toDomain(customerEntity)).willReturn(customerDomain);
+        Slice<CustomerSummary> actualSlice = customerRepository.searchSummariesSliceByName("te", pageable);
+
+        assertSame(summarySlice, actualSlice);
+        verify(jpaRepositoryMock, times(0)).searchIdSliceByNameTrigram(any(), any());
+    }
+
+    @Test
+    @DisplayName("searchSummariesSliceByName should use the trigram query with an escaped pattern and column sort when the index is available")
+    void searchSummariesSliceByName_usesTrigramQuery_whenIndexIsAvailable() {
+
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("birthDate", "unknown").descending());
+        Pageable expectedPageable = PageRequest.of(1, 10, Sort.by("birthdate").descending());
+        UUID customerId = UUID.randomUUID();
+        CustomerSummary summary = new CustomerSummary(customerId, "50%_off", "off@email.com", 12345678909L,
+                5511999998888L, 20);
 
-        Page<Customer> actualDomainPage = customerRepository.searchByName(nameFragment, pageable);
+        given(customerNameTrigramIndexMock.isAvailable()).willReturn(true);
+        given(jpaRepositoryMock.searchIdSliceByNameTrigram("%50\\%\\_off%", expectedPageable))
+                .willReturn(new SliceImpl<>(List.of(customerId.toString()), expectedPageable, true));
+        given(jpaRepositoryMock.findSummariesByIds(List.of(customerId))).willReturn(List.of(summary));
 
-        assertFalse(actualDomainPage.isEmpty());
-        assertEquals(1, actualDomainPage.getTotalElements());
-        assertEquals(customerDomain.getName(), actualDomainPage.getContent().get(0).getName());
+        Slice<CustomerSummary> actualSlice = customerRepository.searchSummariesSliceByName("50%_off", pageable);
 
-        verify(jpaRepositoryMock, times(1)).findByNameIgnoreCaseContaining(nameFragment, pageable);
+        assertEquals(List.of(summary), actualSlice.getContent());
+        assertTrue(actualSlice.hasNext());
+        verify(jpaRepositoryMock, times(0)).searchSummariesSliceByName(any(), any());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("searchSummariesByName should use the case-insensitive projection query when the trigram index is unavailable")
+    void searchSummariesByName_usesProjectionQuery_whenTrigramIndexIsUnavailable() {
+
+        Pageable pageable = Pageable.ofSize(10);
+        PageImpl<CustomerSummary> summaryPage = new PageImpl<>(List.of(
+                new CustomerSummary(UUID.randomUUID(), "test", "teste@gmail.com", 12345678909L, 5511999998888L, 20)));
+
+        given(jpaRepositoryMock.searchSummariesByName("%te%", pageable)).willReturn(summaryPage);
+
+        assertSame(summaryPage, customerRepository.searchSummariesByName("te", pageable));
+        verify(jpaRepositoryMock, times(0)).searchIdsByNameTrigram(any(), any());
+    }
+
+    @Test
+    @DisplayName("searchSummariesByName should page ids with the trigram query and hydrate them when the index is available")
+    void searchSummariesByName_usesTrigramQuery_whenIndexIsAvailable() {
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("customerId", "unknown"));
+        Pageable expectedPageable = PageRequest.of(0, 10, Sort.by("customer_id"));
+        UUID customerId = UUID.randomUUID();
+        CustomerSummary summary = new CustomerSummary(customerId, "Ana", "ana@email.com", 12345678909L,
+                5511999998888L, 20);
+
+        given(customerNameTrigramIndexMock.isAvailable()).willReturn(true);
+        given(jpaRepositoryMock.searchIdsByNameTrigram("%an%", expectedPageable))
+                .willReturn(new PageImpl<>(List.of(customerId.toString()), expectedPageable, 31));
+        given(jpaRepositoryMock.findSummariesByIds(List.of(customerId))).willReturn(List.of(summary));
+
+        PageImpl<CustomerSummary> expectedPage = new PageImpl<>(List.of(summary), expectedPageable, 31);
+
+        assertEquals(expectedPage, customerRepository.searchSummariesByName("an", pageable));
+        verify(jpaRepositoryMock, times(0)).searchSummariesByName(any(), any());
+    }
+
+    @Test
+    @DisplayName("containsPattern should escape LIKE wildcards and the escape character")
+    void containsPattern_escapesWildcards_whenNameHasSpecialCharacters() {
+
+        assertEquals("%a\\\\b\\%c\\_d%", CustomerRepository.containsPattern("a\\b%c_d"));
+    }
+
+    @Test
+    @DisplayName("searchSummariesSliceByName should hydrate only the page of ids returned by the name index in index order")
+    void searchSummariesSliceByName_hydratesIndexPage_whenNameIndexCanServe() {
+
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("customerId"));
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        CustomerSummary firstSummary = new CustomerSummary(firstId, "Ana", "ana@email.com", 11122233396L,
+                5511911112222L, 20);
+        CustomerSummary secondSummary = new CustomerSummary(secondId, "Bruna", "bruna@email.com", 22233344405L,
+                5511911113333L, 20);
+
+        given(customerNameIndexMock.canServe(pageable)).willReturn(true);
+        given(customerNameIndexMock.search("an", pageable))
+                .willReturn(new PageImpl<>(List.of(firstId, secondId), pageable, 5));
+        given(jpaRepositoryMock.findSummariesByIds(List.of(firstId, secondId)))
+                .willReturn(List.of(secondSummary, firstSummary));
+
+        Slice<CustomerSummary> actualSlice = customerRepository.searchSummariesSliceByName("an", pageable);
+
+        assertTrue(actualSlice.hasNext());
+        assertEquals(List.of(firstSummary, secondSummary), actualSlice.getContent());
+        verify(jpaRepositoryMock, times(0)).searchSummariesSliceByName(any(), any());
+    }
+
+    @Test
+    @DisplayName("countAll should return the approximate estimate when one is available")
+    void countAll_returnsApproximate_whenEstimateIsAvailable() {
+
+        given(customerCountEstimatorMock.estimateAll()).willReturn(OptionalLong.of(1_000_000));
+
+        assertEquals(CustomerCount.approximate(1_000_000), customerRepository.countAll(true));
+        verify(jpaRepositoryMock, times(0)).count();
+    }
+
+    @Test
+    @DisplayName("countAll should fall back to an exact count when no estimate is available")
+    void countAll_returnsExact_whenEstimateIsNotAvailable() {
+
+        given(customerCountEstimatorMock.estimateAll()).willReturn(OptionalLong.empty());
+        given(jpaRepositoryMock.count()).willReturn(7L);
+
+        assertEquals(CustomerCount.exact(7), customerRepository.countAll(true));
+    }
+
+    @Test
+    @DisplayName("countByName should use the planner estimate with the escaped pattern when the trigram index is available")
+    void countByName_returnsApproximate_whenTrigramIndexIsAvailable() {
+
+        given(customerNameTrigramIndexMock.isAvailable()).willReturn(true);
+        given(customerCountEstimatorMock.estimateByName("%jo\\_n%")).willReturn(OptionalLong.of(120));
+
+        assertEquals(CustomerCount.approximate(120), customerRepository.countByName("jo_n", true));
+        verify(jpaRepositoryMock, times(0)).countByNameTrigram(any());
+    }
+
+    @Test
+    @DisplayName("countByName should count exactly from the name index when it is ready")
+    void countByName_returnsExactFromIndex_whenNameIndexIsReady() {
+
+        given(customerNameIndexMock.isReady()).willReturn(true);
+        given(customerNameIndexMock.count("john")).willReturn(3L);
+
+        assertEquals(CustomerCount.exact(3), customerRepository.countByName("john", true));
+        verify(customerCountEstimatorMock, times(0)).estimateByName(any());
+    }
+}
@@ -0,0 +1,80 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.CustomerEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class CustomerSummaryProjectionTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ICustomerJpaRepository customerJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+
+        customerJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findSummaryById should select the response columns and compute the age in SQL")
+    void findSummaryById_computesAgeInSql_aroundBirthdays() {
+
+        LocalDate today = LocalDate.now();
+        LocalDate birthdayTomorrow = today.minusYears(30).plusDays(1);
+        LocalDate birthdayToday = today.minusYears(30);
+        UUID beforeBirthdayId = this.saveCustomer("Before Birthday", "before@email.com", 11122233396L, birthdayTomorrow);
+        UUID onBirthdayId = this.saveCustomer("On Birthday", "on@email.com", 22233344405L, birthdayToday);
+
+        CustomerSummary beforeBirthday = customerRepository.findSummaryById(beforeBirthdayId).orElseThrow();
+        CustomerSummary onBirthday = customerRepository.findSummaryById(onBirthdayId).orElseThrow();
+
+        assertThat(beforeBirthday).isEqualTo(new CustomerSummary(beforeBirthdayId, "Before Birthday",
+                "before@email.com", 11122233396L, 5511911112222L, Period.between(birthdayTomorrow, today).getYears()));
+        assertThat(onBirthday.age()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("searchSummariesByName should filter case-insensitively with escaped wildcards and honour the sort")
+    void searchSummariesByName_filtersAndSorts_whenNameIsProvided() {
+
+        this.saveCustomer("Ana Souza", "ana@email.com", 11122233396L, LocalDate.of(1990, 5, 10));
+        this.saveCustomer("Bruno Souza", "bruno@email.com", 22233344405L, LocalDate.of(1985, 1, 1));
+        this.saveCustomer("Carla 100% Lima", "carla@email.com", 33344455508L, LocalDate.of(2000, 12, 31));
+
+        Page<CustomerSummary> souza = customerRepository.searchSummariesByName("SOUZA",
+                PageRequest.of(0, 10, Sort.by("name").descending()));
+        Page<CustomerSummary> percent = customerRepository.searchSummariesByName("0%", PageRequest.of(0, 10));
+
+        assertThat(souza.getTotalElements()).isEqualTo(2);
+        assertThat(souza.getContent()).extracting(CustomerSummary::name).containsExactly("Bruno Souza", "Ana Souza");
+        assertThat(percent.getContent()).extracting(CustomerSummary::name).containsExactly("Carla 100% Lima");
+        assertThat(customerRepository.findAllSummaries(PageRequest.of(0, 2)).getTotalElements()).isEqualTo(3);
+    }
+
+    private UUID saveCustomer(String name, String email, long cpf, LocalDate birthDate) {
+
+        UUID id = UUID.randomUUID();
+        customerJpaRepository.save(CustomerEntity.create(id, name, email, cpf, 5511911112222L, birthDate));
+
+        return id;
+    }
+}
@@ -0,0 +1,104 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameNgramIndexTest {
+
+    private final UUID anaId = UUID.randomUUID();
+
+    private final UUID joanaId = UUID.randomUUID();
+
+    private final UUID brunoId = UUID.randomUUID();
+
+    private NameNgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+
+        index = new NameNgramIndex(1);
+        index.put(anaId, "Ana Souza");
+        index.put(joanaId, "Joana Lima");
+        index.put(brunoId, "Bruno Souza");
+    }
+
+    @Test
+    @DisplayName("search should return every name containing the fragment ignoring case")
+    void search_returnsMatches_whenFragmentIsContained() {
+
+        assertThat(this.idsOf(index.search("SOUZA"))).containsExactlyInAnyOrder(anaId, brunoId);
+        assertThat(this.idsOf(index.search("ana"))).containsExactlyInAnyOrder(anaId, joanaId);
+    }
+
+    @Test
+    @DisplayName("search should verify candidates so names sharing every trigram but not the substring are excluded")
+    void search_excludesCandidates_whenTrigramsMatchButSubstringDoesNot() {
+
+        UUID id = UUID.randomUUID();
+        index.put(id, "abcd bcde");
+
+        assertThat(this.idsOf(index.search("abcde"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search should scan names when the fragment is shorter than a trigram")
+    void search_scansNames_whenFragmentIsShorterThanGram() {
+
+        assertThat(this.idsOf(index.search("br"))).containsExactly(brunoId);
+        assertThat(this.idsOf(index.search(""))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("put should replace the indexed name when the id is already indexed")
+    void put_replacesName_whenIdIsAlreadyIndexed() {
+
+        index.put(anaId, "Carla Mendes");
+
+        assertThat(this.idsOf(index.search("souza"))).containsExactly(brunoId);
+        assertThat(this.idsOf(index.search("mendes"))).containsExactly(anaId);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("remove should drop the id and reuse its slot for the next insert")
+    void remove_dropsIdAndReusesSlot_whenIdIsIndexed() {
+
+        index.remove(joanaId);
+        UUID newId = UUID.randomUUID();
+        index.put(newId, "Mariana Lima");
+
+        assertThat(this.idsOf(index.search("lima"))).containsExactly(newId);
+        assertThat(this.idsOf(index.search("ana"))).containsExactlyInAnyOrder(anaId, newId);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("compareIds should order ids by their unsigned bytes like PostgreSQL's uuid ordering")
+    void compareIds_ordersIdsUnsigned_likePostgresUuidOrdering() {
+
+        UUID low = UUID.fromString("7fffffff-ffff-ffff-7fff-ffffffffffff");
+        UUID middle = UUID.fromString("7fffffff-ffff-ffff-8000-000000000000");
+        UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        NameNgramIndex ordered = new NameNgramIndex(1);
+        ordered.put(high, "high");
+        ordered.put(low, "low");
+        ordered.put(middle, "middle");
+
+        Integer[] slots = Arrays.stream(ordered.search("")).boxed().toArray(Integer[]::new);
+        Arrays.sort(slots, ordered::compareIds);
+
+        assertThat(Arrays.stream(slots).map(ordered::idAt).toList()).containsExactly(low, middle, high);
+    }
+
+    private List<UUID> idsOf(int[] slots) {
+
+        return Arrays.stream(slots).mapToObj(index::idAt).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user;
+
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.domain.model.user.User;
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class UserRepositoryQueryCountTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IUserJpaRepository userJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        statistics.setStatisticsEnabled(false);
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("save should insert a new user with a single statement and no select by id")
+    void save_issuesSingleInsert_whenUserIsNew() {
+
+        User user = User.create(EntityId.newId(), Name.newName("username"), Email.newEmail("count@email.com"),
+                Set.of(Role.USER_ADMIN), "{noop}password");
+
+        User savedUser = userRepository.save(user);
+
+        assertThat(savedUser.getId()).isEqualTo(user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
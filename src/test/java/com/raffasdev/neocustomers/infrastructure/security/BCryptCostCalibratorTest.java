@@ -0,0 +1,56 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCostCalibratorTest {
+
+    private static final long ONE_MILLI = Duration.ofMillis(1).toNanos();
+
+    @Test
+    @DisplayName("calibrate should pick the highest cost whose extrapolated hash time fits the budget")
+    void calibrate_picksHighestCost_withinBudget() {
+
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 4, 31, probeCost -> ONE_MILLI);
+
+        assertThat(cost).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("calibrate should clamp the cost to the configured bounds")
+    void calibrate_clampsCost_toBounds() {
+
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 12, probeCost -> ONE_MILLI))
+                .isEqualTo(12);
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofMillis(1), 10, 16, probeCost -> ONE_MILLI))
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("calibrate should ignore outlier samples by using the median")
+    void calibrate_usesMedianSample() {
+
+        long[] samples = {100 * ONE_MILLI, ONE_MILLI, ONE_MILLI, ONE_MILLI, ONE_MILLI};
+        int[] call = {0};
+
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 4, 31, probeCost -> samples[call[0]++]);
+
+        assertThat(cost).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("costOf should read the cost from plain and prefixed bcrypt hashes")
+    void costOf_readsCost_fromBcryptHashes() {
+
+        String hash = "$2a$12$abcdefghijklmnopqrstuv";
+
+        assertThat(BCryptCostCalibrator.costOf(hash)).isEqualTo("12");
+        assertThat(BCryptCostCalibrator.costOf("{bcrypt}" + hash)).isEqualTo("12");
+        assertThat(BCryptCostCalibrator.costOf("plain")).isEqualTo("unknown");
+        assertThat(BCryptCostCalibrator.costOf(null)).isEqualTo("unknown");
+    }
+}
@@ -0,0 +1,65 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain should return true for every inserted value")
+    void mightContain_returnsTrue_forInsertedValues() {
+
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("token-" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("token-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain should stay close to the configured false-positive rate")
+    void mightContain_staysCloseToConfiguredFalsePositiveRate() {
+
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("create should size bits and hash functions from the false-positive rate")
+    void create_sizesFilter_fromFalsePositiveRate() {
+
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        assertThat(filter.bitSize()).isBetween(9_500L, 9_700L);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("create should throw IllegalArgumentException when false-positive rate is out of range")
+    void create_throwsIllegalArgumentException_whenFalsePositiveRateIsInvalid() {
+
+        assertThatThrownBy(() -> BloomFilter.create(1_000, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
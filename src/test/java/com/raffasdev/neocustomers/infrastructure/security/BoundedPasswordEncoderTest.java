@@ -0,0 +1,114 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.application.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegateMock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(delegateMock, 1, 1, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        passwordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("encode and matches should delegate to the wrapped encoder")
+    void encodeAndMatches_delegateToWrappedEncoder_always() {
+
+        given(delegateMock.encode("password")).willReturn("encoded");
+        given(delegateMock.matches("password", "encoded")).willReturn(true);
+
+        assertThat(passwordEncoder.encode("password")).isEqualTo("encoded");
+        assertThat(passwordEncoder.matches("password", "encoded")).isTrue();
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("matches should throw PasswordHashingUnavailableException when the queue is full")
+    void matches_throwsPasswordHashingUnavailableException_whenQueueIsFull() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        }).given(delegateMock).matches("password", "encoded");
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+                () -> passwordEncoder.matches("password", "encoded"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+                () -> passwordEncoder.matches("password", "encoded"));
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> passwordEncoder.matches("password", "encoded"))
+                .isInstanceOf(PasswordHashingUnavailableException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(2L);
+
+        release.countDown();
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("matches should rethrow runtime exceptions from the wrapped encoder")
+    void matches_rethrowsRuntimeException_whenWrappedEncoderFails() {
+
+        given(delegateMock.matches("password", "encoded")).willThrow(new IllegalArgumentException("bad hash"));
+
+        assertThatThrownBy(() -> passwordEncoder.matches("password", "encoded"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad hash");
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding should delegate to the wrapped encoder")
+    void upgradeEncoding_delegatesToWrappedEncoder_always() {
+
+        given(delegateMock.upgradeEncoding("encoded")).willReturn(true);
+
+        assertThat(passwordEncoder.upgradeEncoding("encoded")).isTrue();
+    }
+}
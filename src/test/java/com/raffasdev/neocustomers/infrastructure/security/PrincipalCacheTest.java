@@ -0,0 +1,116 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PrincipalCache principalCache;
+
+    private UserEntity userEntity;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5), meterRegistry);
+        userEntity = UserEntity.create(
+                UUID.randomUUID(),
+                "username",
+                "teste@email.com",
+                Set.of(Role.USER_ADMIN),
+                "encodedPassword123",
+                0L
+        );
+    }
+
+    @Test
+    @DisplayName("get should call the loader only once for the same email")
+    void get_callsLoaderOnce_whenEmailIsRequestedTwice() {
+
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<UserEntity> first = principalCache.get("teste@email.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(userEntity);
+        });
+        Optional<UserEntity> second = principalCache.get("teste@email.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(userEntity);
+        });
+
+        assertThat(first).contains(userEntity);
+        assertThat(second).contains(userEntity);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("get should not cache users that were not found")
+    void get_doesNotCacheAbsentUsers_whenLoaderReturnsEmpty() {
+
+        AtomicInteger loads = new AtomicInteger();
+
+        principalCache.get("teste@email.com", email -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<UserEntity> result = principalCache.get("teste@email.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(userEntity);
+        });
+
+        assertThat(result).contains(userEntity);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("invalidate should force the next get to call the loader again")
+    void invalidate_forcesReload_whenEmailIsInvalidated() {
+
+        AtomicInteger loads = new AtomicInteger();
+
+        principalCache.get("teste@email.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(userEntity);
+        });
+        principalCache.invalidate("teste@email.com");
+        principalCache.get("teste@email.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(userEntity);
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("get should record hit and miss metrics")
+    void get_recordsHitAndMissMetrics_always() {
+
+        principalCache.get("teste@email.com", email -> Optional.of(userEntity));
+        principalCache.get("teste@email.com", email -> Optional.of(userEntity));
+
+        double hits = meterRegistry.get("cache.gets").tag("cache", "principalCache").tag("result", "hit")
+                .functionCounter().count();
+        double misses = meterRegistry.get("cache.gets").tag("cache", "principalCache").tag("result", "miss")
+                .functionCounter().count();
+
+        assertThat(hits).isEqualTo(1);
+        assertThat(misses).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "principalCache").functionCounter())
+                .isNotNull();
+    }
+}
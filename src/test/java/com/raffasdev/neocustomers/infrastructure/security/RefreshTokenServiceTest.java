@@ -0,0 +1,46 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenServiceTest {
+
+    private final RefreshTokenService refreshTokenService = new RefreshTokenService(Duration.ofDays(30));
+
+    @Test
+    @DisplayName("generateToken should return a distinct url-safe opaque token on each call")
+    void generateToken_returnsDistinctUrlSafeTokens() {
+
+        String first = refreshTokenService.generateToken();
+        String second = refreshTokenService.generateToken();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first).matches("[A-Za-z0-9_-]{43}");
+    }
+
+    @Test
+    @DisplayName("hash should be deterministic and never return the raw token")
+    void hash_isDeterministic_andDiffersFromToken() {
+
+        String token = refreshTokenService.generateToken();
+
+        String hash = refreshTokenService.hash(token);
+
+        assertThat(hash).isEqualTo(refreshTokenService.hash(token));
+        assertThat(hash).isNotEqualTo(token).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("expiresAt should add the configured ttl to the issue instant")
+    void expiresAt_addsConfiguredTtl() {
+
+        Instant issuedAt = Instant.parse("2025-01-01T00:00:00Z");
+
+        assertThat(refreshTokenService.expiresAt(issuedAt)).isEqualTo(Instant.parse("2025-01-31T00:00:00Z"));
+    }
+}
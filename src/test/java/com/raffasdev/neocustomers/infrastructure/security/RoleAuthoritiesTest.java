@@ -0,0 +1,36 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleAuthoritiesTest {
+
+    @Test
+    @DisplayName("of should return the role names as authorities")
+    void of_returnsRoleNamesAsAuthorities() {
+
+        assertThat(RoleAuthorities.of(Set.of(Role.USER_ADMIN)))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("USER_ADMIN");
+        assertThat(RoleAuthorities.of(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("of should return the same cached immutable list for the same role combination")
+    void of_returnsCachedImmutableList_forSameRoleCombination() {
+
+        var first = RoleAuthorities.of(Set.of(Role.USER_ADMIN));
+        var second = RoleAuthorities.of(Role.USER_ADMIN.getBit());
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add(() -> "OTHER"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -2,27 +2,35 @@ package com.raffasdev.neocustomers.infrastructure.security;
 
 import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.UserEntity;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.IRevokedTokenJpaRepository;
 import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.IUserJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,29 +51,49 @@ class SecurityFilterTest {
     @Mock
     private FilterChain filterChainMock;
 
-    @InjectMocks
+    @Mock
+    private IRevokedTokenJpaRepository revokedTokenRepositoryMock;
+
+    private PrincipalCache principalCache;
+
+    private TokenRevocationList tokenRevocationList;
+
     private SecurityFilter securityFilter;
 
-    @Test
-    @DisplayName("doFilterInternal should set Authentication in SecurityContext when token is valid")
-    void doFilterInternal_SetsAuthentication_whenTokenIsValid() throws ServletException, IOException {
+    private final String token = "token";
+
+    private final String userEmail = "teste@email.com";
+
+    private UserEntity userEntity;
 
-        String token = "token";
-        String userEmail = "teste@email.com";
-        UserEntity userEntity = UserEntity.create(
+    @BeforeEach
+    void setUp() {
+
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepositoryMock, 100, 0.01, new SimpleMeterRegistry());
+        securityFilter = new SecurityFilter(tokenServiceMock, userRepositoryMock, principalCache, tokenRevocationList, false);
+        userEntity = UserEntity.create(
                 UUID.randomUUID(),
                 "username",
                 "teste@email.com",
                 Set.of(Role.USER_ADMIN),
-                "encodedPassword123"
+                "encodedPassword123",
+                0L
         );
+    }
 
-        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+    @AfterEach
+    void tearDown() {
+
+        SecurityContextHolder.clearContext();
+    }
 
-        given(assertDoesNotThrow(
-                () -> tokenServiceMock.validateToken(token))
-        ).willReturn(userEmail);
+    @Test
+    @DisplayName("doFilterInternal should set Authentication in SecurityContext when token is valid")
+    void doFilterInternal_SetsAuthentication_whenTokenIsValid() throws ServletException, IOException {
 
+        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(tokenServiceMock.verify(token)).willReturn(verifiedToken(0L));
         given(userRepositoryMock.findByEmail(userEmail)).willReturn(Optional.of(userEntity));
 
         securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
@@ -82,19 +110,127 @@ class SecurityFilterTest {
     @DisplayName("doFilterInternal should not set Authentication when token is invalid")
     void doFilterInternal_DoesNotSetAuthentication_whenTokenIsInvalid() throws ServletException, IOException {
 
-        String token = "invalidToken";
+        String invalidToken = "invalidToken";
+        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + invalidToken);
+        given(tokenServiceMock.verify(invalidToken)).willReturn(null);
+
+        securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
+
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNull();
+
+        verify(filterChainMock).doFilter(requestMock, responseMock);
+    }
+
+    @Test
+    @DisplayName("doFilterInternal should load the user only once when the same token is used again")
+    void doFilterInternal_LoadsUserOnce_whenSameTokenIsReused() throws ServletException, IOException {
+
         given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(tokenServiceMock.verify(token)).willReturn(verifiedToken(0L));
+        given(userRepositoryMock.findByEmail(userEmail)).willReturn(Optional.of(userEntity));
+
+        securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
+        securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
 
-        given(assertDoesNotThrow(
-                () -> tokenServiceMock.validateToken(token))
-        ).willReturn(null);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userEntity);
+
+        verify(userRepositoryMock, times(1)).findByEmail(userEmail);
+        verify(filterChainMock, times(2)).doFilter(requestMock, responseMock);
+    }
+
+    @Test
+    @DisplayName("doFilterInternal should not set Authentication when token version does not match the user")
+    void doFilterInternal_DoesNotSetAuthentication_whenTokenVersionIsStale() throws ServletException, IOException {
+
+        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(tokenServiceMock.verify(token)).willReturn(verifiedToken(1L));
+        given(userRepositoryMock.findByEmail(userEmail)).willReturn(Optional.of(userEntity));
+
+        securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChainMock).doFilter(requestMock, responseMock);
+    }
+
+    @Test
+    @DisplayName("doFilterInternal should not set Authentication when token id was revoked")
+    void doFilterInternal_DoesNotSetAuthentication_whenTokenIsRevoked() throws ServletException, IOException {
+
+        VerifiedToken verifiedToken = verifiedToken(0L);
+        tokenRevocationList.revoke(verifiedToken.tokenId(), verifiedToken.expiresAt());
+
+        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(tokenServiceMock.verify(token)).willReturn(verifiedToken);
+        given(revokedTokenRepositoryMock.existsById(verifiedToken.tokenId())).willReturn(true);
+
+        securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userRepositoryMock, never()).findByEmail(anyString());
+        verify(filterChainMock).doFilter(requestMock, responseMock);
+    }
+
+    @Test
+    @DisplayName("doFilterInternal should not set Authentication in stateless mode when token version was revoked")
+    void doFilterInternal_DoesNotSetAuthentication_whenStatelessTokenVersionIsRevoked() throws ServletException, IOException {
+
+        securityFilter = new SecurityFilter(tokenServiceMock, userRepositoryMock, principalCache, tokenRevocationList, true);
+        VerifiedToken verifiedToken = verifiedToken(0L);
+        tokenRevocationList.revoke(verifiedToken.versionId(), verifiedToken.expiresAt());
+
+        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(tokenServiceMock.verify(token)).willReturn(verifiedToken);
+        given(revokedTokenRepositoryMock.existsById(verifiedToken.versionId())).willReturn(true);
+
+        securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChainMock).doFilter(requestMock, responseMock);
+    }
+
+    @Test
+    @DisplayName("doFilterInternal should build Authentication from claims without database access in stateless mode")
+    void doFilterInternal_UsesClaimsOnly_whenStatelessAuthorizationIsEnabled() throws ServletException, IOException {
+
+        securityFilter = new SecurityFilter(tokenServiceMock, userRepositoryMock, principalCache, tokenRevocationList, true);
+
+        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(tokenServiceMock.verify(token)).willReturn(verifiedToken(0L));
 
         securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
 
         var authentication = SecurityContextHolder.getContext().getAuthentication();
-        assertThat(authentication).isNull();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal())
+                .isEqualTo(new AuthenticatedUser(userEmail, Set.of(Role.USER_ADMIN), 0L));
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("USER_ADMIN");
 
+        verify(userRepositoryMock, never()).findByEmail(anyString());
         verify(filterChainMock).doFilter(requestMock, responseMock);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("doFilterInternal should fall back to the database in stateless mode when token has no role claims")
+    void doFilterInternal_FallsBackToDatabase_whenStatelessTokenHasNoClaims() throws ServletException, IOException {
+
+        securityFilter = new SecurityFilter(tokenServiceMock, userRepositoryMock, principalCache, tokenRevocationList, true);
+
+        given(requestMock.getHeader("Authorization")).willReturn("Bearer " + token);
+        given(tokenServiceMock.verify(token))
+                .willReturn(new VerifiedToken(UUID.randomUUID().toString(), userEmail, null, null, Instant.now().plusSeconds(60)));
+        given(userRepositoryMock.findByEmail(userEmail)).willReturn(Optional.of(userEntity));
+
+        securityFilter.doFilterInternal(requestMock, responseMock, filterChainMock);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userEntity);
+    }
+
+    private VerifiedToken verifiedToken(long tokenVersion) {
+
+        return new VerifiedToken(UUID.randomUUID().toString(), userEmail, Set.of(Role.USER_ADMIN), tokenVersion, Instant.now().plusSeconds(60));
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.raffasdev.neocustomers.infrastructure.security;
+
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.entity.RevokedTokenEntity;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.IRevokedTokenJpaRepository;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.user.RevokedTokenRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private IRevokedTokenJpaRepository repositoryMock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationList = new TokenRevocationList(repositoryMock, 1_000, 0.01, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("isRevoked should answer from the filter without touching the database when token was never revoked")
+    void isRevoked_skipsDatabase_whenFilterRejectsTokenId() {
+
+        assertThat(tokenRevocationList.isRevoked("jti")).isFalse();
+        assertThat(tokenRevocationList.isRevoked(null)).isFalse();
+
+        verify(repositoryMock, never()).existsById(anyString());
+        assertThat(meterRegistry.get("token.revocation.lookups").tag("result", "not_revoked").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("isRevoked should confirm a filter hit against the database after revoke")
+    void isRevoked_confirmsAgainstDatabase_whenTokenWasRevoked() {
+
+        given(repositoryMock.existsById("jti")).willReturn(true);
+
+        tokenRevocationList.revoke("jti", Instant.now().plusSeconds(60));
+
+        assertThat(tokenRevocationList.isRevoked("jti")).isTrue();
+        verify(repositoryMock).save(any(RevokedTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("revoke should be idempotent when the token id is already stored")
+    void revoke_ignoresDuplicate_whenTokenIdAlreadyStored() {
+
+        given(repositoryMock.save(any(RevokedTokenEntity.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        given(repositoryMock.existsById("jti")).willReturn(true);
+
+        tokenRevocationList.revoke("jti", Instant.now().plusSeconds(60));
+
+        assertThat(tokenRevocationList.isRevoked("jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild should load active revocations and refresh should pick up revocations from other instances")
+    void rebuildAndRefresh_loadRevocationsFromDatabase() {
+
+        Instant revokedAt = Instant.now();
+        given(repositoryMock.findActiveTokens(any(Instant.class)))
+                .willReturn(List.of(new RevokedTokenRow("jti-1", revokedAt)));
+        given(repositoryMock.findTokensRevokedSince(any(Instant.class)))
+                .willReturn(List.of())
+                .willReturn(List.of(new RevokedTokenRow("jti-2", revokedAt)));
+        given(repositoryMock.existsById(anyString())).willReturn(true);
+
+        tokenRevocationList.rebuild();
+        assertThat(tokenRevocationList.isRevoked("jti-1")).isTrue();
+
+        tokenRevocationList.refresh();
+        assertThat(tokenRevocationList.isRevoked("jti-2")).isTrue();
+
+        verify(repositoryMock).deleteExpired(any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("refresh should advance the watermark from the newest revoked_at read from the database, not the local clock")
+    void refresh_advancesWatermarkFromDatabaseTimestamps() {
+
+        Instant skewed = Instant.parse("2020-01-01T00:00:00Z");
+        given(repositoryMock.findActiveTokens(any(Instant.class))).willReturn(List.of());
+        given(repositoryMock.findTokensRevokedSince(any(Instant.class)))
+                .willReturn(List.of(
+                        new RevokedTokenRow("jti-1", skewed),
+                        new RevokedTokenRow("jti-2", skewed.minusSeconds(30))))
+                .willReturn(List.of())
+                .willReturn(List.of());
+
+        tokenRevocationList.rebuild();
+        tokenRevocationList.refresh();
+        tokenRevocationList.refresh();
+
+        InOrder inOrder = inOrder(repositoryMock);
+        inOrder.verify(repositoryMock).findTokensRevokedSince(Instant.EPOCH.minusSeconds(5));
+        inOrder.verify(repositoryMock, times(2)).findTokensRevokedSince(skewed.minusSeconds(5));
+    }
+}
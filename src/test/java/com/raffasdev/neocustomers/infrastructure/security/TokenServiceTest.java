@@ -2,12 +2,27 @@ package com.raffasdev.neocustomers.infrastructure.security;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Email;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.EntityId;
+import com.raffasdev.neocustomers.domain.model.shared.valueObject.Name;
+import com.raffasdev.neocustomers.domain.model.user.User;
+import com.raffasdev.neocustomers.domain.model.user.valueObject.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -19,6 +34,15 @@ class TokenServiceTest {
 
     private final String secret = "123";
 
+    private final User user = User.reconstitute(
+            EntityId.newId(),
+            Name.newName("username"),
+            Email.newEmail("teste@email.com"),
+            Set.of(Role.USER_ADMIN),
+            "encodedPassword123",
+            3L
+    );
+
     @BeforeEach
     void setUp() {
 
@@ -27,6 +51,10 @@ class TokenServiceTest {
 
         ReflectionTestUtils.setField(tokenService, "secretKey", secret);
         ReflectionTestUtils.setField(tokenService, "expirationMinutes", expirationMinutes);
+        ReflectionTestUtils.setField(tokenService, "verifiedCacheMaximumSize", 16L);
+        ReflectionTestUtils.setField(tokenService, "verifiedCacheTtl", Duration.ofMinutes(5));
+
+        tokenService.init();
     }
 
     @Test
@@ -35,7 +63,7 @@ class TokenServiceTest {
 
         String userEmail = "teste@email.com";
 
-        String token = assertDoesNotThrow(() -> tokenService.generateToken(userEmail));
+        String token = assertDoesNotThrow(() -> tokenService.generateToken(user));
 
         assertThat(token).isNotNull().isNotEmpty();
 
@@ -48,12 +76,82 @@ class TokenServiceTest {
         assertThat(subject).isEqualTo(userEmail);
     }
 
+    @Test
+    @DisplayName("generateToken should sign the user roles and token version as claims")
+    void generateToken_signsRolesAndVersionClaims_always() {
+
+        String token = tokenService.generateToken(user);
+
+        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC256(secret))
+                .withIssuer("neoCustomers")
+                .build()
+                .verify(token);
+
+        assertThat(decodedJWT.getClaim("roles").asList(String.class)).isEqualTo(List.of("USER_ADMIN"));
+        assertThat(decodedJWT.getClaim("ver").asLong()).isEqualTo(3L);
+        assertThat(decodedJWT.getId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("generateToken should assign a distinct token id to every token")
+    void generateToken_assignsDistinctTokenIds_always() {
+
+        VerifiedToken first = tokenService.verify(tokenService.generateToken(user));
+        VerifiedToken second = tokenService.verify(tokenService.generateToken(user));
+
+        assertThat(first.tokenId()).isNotNull().isNotEqualTo(second.tokenId());
+    }
+
+    @Test
+    @DisplayName("verify should return roles and token version when token carries claims")
+    void verify_returnsRolesAndVersion_whenTokenCarriesClaims() {
+
+        VerifiedToken verifiedToken = tokenService.verify(tokenService.generateToken(user));
+
+        assertThat(verifiedToken).isNotNull();
+        assertThat(verifiedToken.hasClaims()).isTrue();
+        assertThat(verifiedToken.roles()).isEqualTo(Set.of(Role.USER_ADMIN));
+        assertThat(verifiedToken.tokenVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("verify should return a token without claims when token only carries the subject")
+    void verify_returnsTokenWithoutClaims_whenTokenOnlyCarriesSubject() {
+
+        String legacyToken = JWT.create()
+                .withIssuer("neoCustomers")
+                .withSubject("teste@email.com")
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .sign(Algorithm.HMAC256(secret));
+
+        VerifiedToken verifiedToken = tokenService.verify(legacyToken);
+
+        assertThat(verifiedToken).isNotNull();
+        assertThat(verifiedToken.subject()).isEqualTo("teste@email.com");
+        assertThat(verifiedToken.hasClaims()).isFalse();
+    }
+
+    @Test
+    @DisplayName("verify should return null when token carries an unknown role")
+    void verify_returnsNull_whenTokenCarriesUnknownRole() {
+
+        String forgedRoleToken = JWT.create()
+                .withIssuer("neoCustomers")
+                .withSubject("teste@email.com")
+                .withClaim("roles", List.of("SUPER_ADMIN"))
+                .withClaim("ver", 0L)
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .sign(Algorithm.HMAC256(secret));
+
+        assertThat(tokenService.verify(forgedRoleToken)).isNull();
+    }
+
     @Test
     @DisplayName("validateToken should return subject when token is valid and not expired")
     void validateToken_returnsSubject_whenTokenIsValid() {
 
         String userEmail = "teste@email.com";
-        String validToken = assertDoesNotThrow(() -> tokenService.generateToken(userEmail));
+        String validToken = assertDoesNotThrow(() -> tokenService.generateToken(user));
 
         String subject = assertDoesNotThrow(() -> tokenService.validateToken(validToken));
 
@@ -92,14 +190,91 @@ class TokenServiceTest {
     }
 
     @Test
-    @DisplayName("generateToken should throw RuntimeException for JWTCreationException")
-    void generateToken_throwsRuntimeException_whenCreationFails() {
+    @DisplayName("rotateKey should throw IllegalArgumentException when secret is null")
+    void rotateKey_throwsIllegalArgumentException_whenSecretIsNull() {
 
-        String userEmail = "teste@email.com";
+        assertThatThrownBy(() -> tokenService.rotateKey(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("rotateKey should reject tokens signed with the previous key")
+    void rotateKey_rejectsTokensSignedWithPreviousKey_whenKeyIsSwapped() {
+
+        String oldToken = tokenService.generateToken(user);
+        assertThat(tokenService.validateToken(oldToken)).isEqualTo("teste@email.com");
+
+        tokenService.rotateKey("456");
+
+        assertThat(tokenService.validateToken(oldToken)).isNull();
+
+        String newToken = tokenService.generateToken(user);
+        assertThat(tokenService.validateToken(newToken)).isEqualTo("teste@email.com");
+    }
+
+    @Test
+    @DisplayName("rotateKey should not keep tokens verified under the previous key while verifications run concurrently")
+    void rotateKey_doesNotKeepPreviousKeyResults_whenVerifyRunsConcurrently() throws Exception {
+
+        String oldToken = tokenService.generateToken(user);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean rotated = new AtomicBoolean();
+
+        try {
+            List<Future<?>> verifiers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                verifiers.add(executor.submit(() -> {
+                    while (!rotated.get()) {
+                        tokenService.verify(oldToken);
+                    }
+                }));
+            }
+
+            Thread.sleep(50);
+            tokenService.rotateKey("456");
+            rotated.set(true);
+
+            for (Future<?> verifier : verifiers) {
+                verifier.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(tokenService.verify(oldToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("verify should return the cached result when the same token is verified again")
+    void verify_returnsCachedResult_whenTokenIsVerifiedAgain() {
+
+        String token = tokenService.generateToken(user);
+
+        VerifiedToken first = tokenService.verify(token);
+        VerifiedToken second = tokenService.verify(token);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(second.subject()).isEqualTo("teste@email.com");
+    }
+
+    @Test
+    @DisplayName("verify should return null when token is null")
+    void verify_returnsNull_whenTokenIsNull() {
+
+        assertThat(tokenService.verify(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("validateToken should verify tokens when the verified token cache is disabled")
+    void validateToken_returnsSubject_whenCacheIsDisabled() {
+
+        ReflectionTestUtils.setField(tokenService, "verifiedCacheMaximumSize", 0L);
+        tokenService.init();
 
-        ReflectionTestUtils.setField(tokenService, "secretKey", null);
+        String token = tokenService.generateToken(user);
 
-        assertThatThrownBy(() -> tokenService.generateToken(userEmail))
-                .isInstanceOf(RuntimeException.class);
+        assertThat(tokenService.validateToken(token)).isEqualTo("teste@email.com");
+        assertThat(tokenService.verify(token)).isNotSameAs(tokenService.verify(token));
     }
 }
\ No newline at end of file
@@ -42,7 +42,8 @@ class UserDetailsServiceImplTest {
                 "username",
                 "teste@email.com",
                 Set.of(Role.USER_ADMIN),
-                "encodedPassword123"
+                "encodedPassword123",
+                0L
         );
 
         given(userJpaRepositoryMock.findByEmail(userEmail)).willReturn(Optional.of(userEntity));
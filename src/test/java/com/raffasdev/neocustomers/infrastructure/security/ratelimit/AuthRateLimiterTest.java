@@ -0,0 +1,116 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import com.raffasdev.neocustomers.application.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AuthRateLimiter rateLimiter(boolean enabled) {
+
+        var loginLimits = new RateLimitProperties.EndpointLimits(
+                new RateLimitProperties.BucketLimit(3, Duration.ofMinutes(1)),
+                new RateLimitProperties.BucketLimit(2, Duration.ofMinutes(1)));
+        var properties = new RateLimitProperties(enabled, RateLimitProperties.Store.MEMORY, 100,
+                Duration.ofMinutes(10), Map.of("login", loginLimits));
+
+        return new AuthRateLimiter(new InMemoryRateLimitStore(100, Duration.ofMinutes(10)), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("check should throw RateLimitExceededException when the same email exceeds its bucket from different IPs")
+    void check_throwsRateLimitExceeded_whenEmailBucketIsEmpty() {
+
+        AuthRateLimiter rateLimiter = rateLimiter(true);
+
+        rateLimiter.check("login", "10.0.0.1", "user@email.com");
+        rateLimiter.check("login", "10.0.0.2", "USER@email.com");
+
+        assertThatThrownBy(() -> rateLimiter.check("login", "10.0.0.3", "user@email.com"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> assertThat(((RateLimitExceededException) e).getLimit()).isEqualTo(2));
+
+        assertThat(meterRegistry.get("auth.rate-limit.requests")
+                .tags("endpoint", "login", "scope", "email", "result", "rejected")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("check should return RateLimit headers of the tightest bucket and count allowed requests")
+    void check_returnsHeadersOfTightestBucket_whenRequestIsAllowed() {
+
+        AuthRateLimiter rateLimiter = rateLimiter(true);
+
+        HttpHeaders headers = rateLimiter.check("login", "10.0.0.1", "user@email.com");
+
+        assertThat(headers.getFirst("RateLimit-Limit")).isEqualTo("2");
+        assertThat(headers.getFirst("RateLimit-Remaining")).isEqualTo("1");
+        assertThat(headers.getFirst("RateLimit-Reset")).isEqualTo("30");
+        assertThat(meterRegistry.get("auth.rate-limit.requests")
+                .tags("endpoint", "login", "scope", "ip", "result", "allowed")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("check should throw RateLimitExceededException when the same IP exceeds its bucket with different emails")
+    void check_throwsRateLimitExceeded_whenIpBucketIsEmpty() {
+
+        AuthRateLimiter rateLimiter = rateLimiter(true);
+
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.check("login", "10.0.0.1", "user" + i + "@email.com");
+        }
+
+        assertThatThrownBy(() -> rateLimiter.check("login", "10.0.0.1", "other@email.com"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("check should give the IP token back when the email bucket rejects the request")
+    void check_refundsIpToken_whenEmailBucketRejects() {
+
+        AuthRateLimiter rateLimiter = rateLimiter(true);
+
+        rateLimiter.check("login", "10.0.0.9", "user@email.com");
+        rateLimiter.check("login", "10.0.0.9", "user@email.com");
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> rateLimiter.check("login", "10.0.0.9", "user@email.com"))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .satisfies(e -> assertThat(((RateLimitExceededException) e).getLimit()).isEqualTo(2));
+        }
+
+        HttpHeaders headers = rateLimiter.check("login", "10.0.0.9", "other@email.com");
+
+        assertThat(headers.getFirst("RateLimit-Limit")).isEqualTo("3");
+        assertThat(headers.getFirst("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(meterRegistry.get("auth.rate-limit.requests")
+                .tags("endpoint", "login", "scope", "ip", "result", "rejected")
+                .counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("check should not limit endpoints without configuration or when disabled")
+    void check_doesNotLimit_whenEndpointIsNotConfiguredOrLimiterIsDisabled() {
+
+        AuthRateLimiter enabled = rateLimiter(true);
+        AuthRateLimiter disabled = rateLimiter(false);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 10; i++) {
+                enabled.check("logout", "10.0.0.1", "user@email.com");
+                disabled.check("login", "10.0.0.1", "user@email.com");
+            }
+        }).doesNotThrowAnyException();
+    }
+}
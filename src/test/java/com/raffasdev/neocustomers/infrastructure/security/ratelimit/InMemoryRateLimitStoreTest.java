@@ -0,0 +1,107 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, Duration.ofMinutes(10), clock::get);
+
+    private final RateLimitProperties.BucketLimit limit = new RateLimitProperties.BucketLimit(3, Duration.ofSeconds(3));
+
+    @Test
+    @DisplayName("tryConsume should allow a full burst and then reject with the time until the next token")
+    void tryConsume_allowsBurst_thenRejects() {
+
+        assertThat(store.tryConsume("key", limit).remaining()).isEqualTo(2);
+        assertThat(store.tryConsume("key", limit).remaining()).isEqualTo(1);
+        assertThat(store.tryConsume("key", limit).remaining()).isZero();
+
+        RateLimitDecision rejected = store.tryConsume("key", limit);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.limit()).isEqualTo(3);
+        assertThat(rejected.retryAfterNanos()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tryConsume should refill one token per emission interval")
+    void tryConsume_refillsTokens_overTime() {
+
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("key", limit);
+        }
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(store.tryConsume("key", limit).allowed()).isTrue();
+        assertThat(store.tryConsume("key", limit).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("refund should give back one token to an existing bucket and ignore unknown keys")
+    void refund_givesBackOneToken_whenBucketExists() {
+
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("key", limit);
+        }
+
+        store.refund("key", limit);
+        store.refund("unknown", limit);
+
+        assertThat(store.tryConsume("key", limit).allowed()).isTrue();
+        assertThat(store.tryConsume("key", limit).allowed()).isFalse();
+        assertThat(store.tryConsume("unknown", limit).remaining()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("tryConsume should keep independent buckets per key")
+    void tryConsume_keepsIndependentBuckets_perKey() {
+
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("first", limit);
+        }
+
+        assertThat(store.tryConsume("first", limit).allowed()).isFalse();
+        assertThat(store.tryConsume("second", limit).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryConsume should never admit more than the capacity under concurrent access")
+    void tryConsume_neverExceedsCapacity_underConcurrency() throws Exception {
+
+        var bigLimit = new RateLimitProperties.BucketLimit(50, Duration.ofHours(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> store.tryConsume("shared", bigLimit).allowed()));
+            }
+
+            int allowed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    allowed++;
+                }
+            }
+
+            assertThat(allowed).isEqualTo(50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
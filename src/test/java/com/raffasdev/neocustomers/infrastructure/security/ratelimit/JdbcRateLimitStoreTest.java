@@ -0,0 +1,108 @@
+package com.raffasdev.neocustomers.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class JdbcRateLimitStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final RateLimitProperties.BucketLimit limit = new RateLimitProperties.BucketLimit(3, Duration.ofSeconds(3));
+
+    @AfterEach
+    void tearDown() {
+
+        jdbcTemplate.update("delete from rate_limit_buckets");
+    }
+
+    @Test
+    @DisplayName("tryConsume should allow up to the capacity and then reject with the time until the next token")
+    void tryConsume_allowsUpToCapacity_thenRejects() {
+
+        JdbcRateLimitStore store = storeAt(NOW);
+
+        assertThat(store.tryConsume("login:ip:10.0.0.1", limit).remaining()).isEqualTo(2);
+        assertThat(store.tryConsume("login:ip:10.0.0.1", limit).remaining()).isEqualTo(1);
+        assertThat(store.tryConsume("login:ip:10.0.0.1", limit).remaining()).isZero();
+
+        RateLimitDecision rejected = store.tryConsume("login:ip:10.0.0.1", limit);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos()).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(store.tryConsume("login:ip:10.0.0.2", limit).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryConsume should allow again once the emission interval has passed")
+    void tryConsume_allowsAgain_afterEmissionInterval() {
+
+        for (int i = 0; i < 3; i++) {
+            storeAt(NOW).tryConsume("key", limit);
+        }
+
+        assertThat(storeAt(NOW.plusMillis(500)).tryConsume("key", limit).allowed()).isFalse();
+        assertThat(storeAt(NOW.plusSeconds(1)).tryConsume("key", limit).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("refund should give back one token to the stored bucket")
+    void refund_givesBackOneToken_whenBucketExists() {
+
+        JdbcRateLimitStore store = storeAt(NOW);
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("login:ip:10.0.0.1", limit);
+        }
+
+        store.refund("login:ip:10.0.0.1", limit);
+
+        assertThat(store.tryConsume("login:ip:10.0.0.1", limit).allowed()).isTrue();
+        assertThat(store.tryConsume("login:ip:10.0.0.1", limit).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("tryConsume should store a fixed-length hash instead of the raw key")
+    void tryConsume_storesHashedKey_whenKeyIsLongerThanTheColumn() {
+
+        String longKey = "login:email:" + "a".repeat(1000) + "@email.com";
+
+        assertThat(storeAt(NOW).tryConsume(longKey, limit).allowed()).isTrue();
+        assertThat(jdbcTemplate.queryForList("select bucket_key from rate_limit_buckets", String.class))
+                .singleElement()
+                .satisfies(bucketKey -> assertThat(bucketKey).hasSize(64).doesNotContain("@"));
+    }
+
+    @Test
+    @DisplayName("purgeIdleBuckets should delete buckets that are already full again")
+    void purgeIdleBuckets_deletesFullBuckets() {
+
+        storeAt(NOW).tryConsume("idle", limit);
+
+        storeAt(NOW.plusMillis(500)).purgeIdleBuckets();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from rate_limit_buckets", Long.class)).isEqualTo(1);
+
+        storeAt(NOW.plusSeconds(2)).purgeIdleBuckets();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from rate_limit_buckets", Long.class)).isZero();
+    }
+
+    private JdbcRateLimitStore storeAt(Instant now) {
+
+        return new JdbcRateLimitStore(jdbcTemplate, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
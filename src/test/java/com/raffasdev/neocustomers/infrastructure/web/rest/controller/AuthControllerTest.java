@@ -1,18 +1,25 @@
 package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
 
+import com.raffasdev.neocustomers.application.exception.RateLimitExceededException;
+import com.raffasdev.neocustomers.domain.model.user.AuthTokens;
 import com.raffasdev.neocustomers.domain.model.user.IAuthService;
 import com.raffasdev.neocustomers.domain.model.user.User;
+import com.raffasdev.neocustomers.infrastructure.security.ratelimit.AuthRateLimiter;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.request.LoginUserRequest;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.request.RefreshTokenRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.request.RegisterUserRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response.LoginUserResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response.RefreshTokenResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.user.response.RegisterUserResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.UserDtoMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -23,7 +30,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthControllerTest {
@@ -34,6 +44,12 @@ class AuthControllerTest {
     @Mock
     private UserDtoMapper userDtoMapperMock;
 
+    @Mock
+    private AuthRateLimiter authRateLimiterMock;
+
+    @Mock
+    private HttpServletRequest httpRequestMock;
+
     @InjectMocks
     private AuthController authController;
 
@@ -55,7 +71,7 @@ class AuthControllerTest {
         given(authServiceMock.registerUser(any(), any(), any(), any())).willReturn(userDomain);
         given(userDtoMapperMock.toRegisterUserResponse(userDomain)).willReturn(responseDto);
 
-        ResponseEntity<RegisterUserResponse> responseEntity = authController.registerUser(requestDto);
+        ResponseEntity<RegisterUserResponse> responseEntity = authController.registerUser(requestDto, httpRequestMock);
 
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
         assertThat(responseEntity.getBody()).isNotNull();
@@ -70,14 +86,21 @@ class AuthControllerTest {
         var loginRequest = new LoginUserRequest("teste@email.com", "password123");
         String expectedToken = "a.valid.jwt";
 
-        given(authServiceMock.loginUser(loginRequest.getEmail(), loginRequest.getPassword())).willReturn(expectedToken);
+        HttpHeaders rateLimitHeaders = new HttpHeaders();
+        rateLimitHeaders.set("RateLimit-Remaining", "4");
 
-        ResponseEntity<LoginUserResponse> responseEntity = authController.loginUser(loginRequest);
+        given(authRateLimiterMock.check("login", null, "teste@email.com")).willReturn(rateLimitHeaders);
+        given(authServiceMock.loginUser(loginRequest.getEmail(), loginRequest.getPassword()))
+                .willReturn(new AuthTokens(expectedToken, "refresh"));
+
+        ResponseEntity<LoginUserResponse> responseEntity = authController.loginUser(loginRequest, httpRequestMock);
 
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(responseEntity.getHeaders().getFirst("RateLimit-Remaining")).isEqualTo("4");
         assertThat(responseEntity.getBody()).isNotNull();
         assertThat(responseEntity.getBody().token()).isEqualTo(expectedToken);
         assertThat(responseEntity.getBody().email()).isEqualTo("teste@email.com");
+        assertThat(responseEntity.getBody().refreshToken()).isEqualTo("refresh");
     }
 
     @Test
@@ -88,7 +111,61 @@ class AuthControllerTest {
 
         given(authServiceMock.loginUser(any(), any())).willThrow(new BadCredentialsException("Invalid credentials"));
 
-        assertThatThrownBy(() -> authController.loginUser(loginRequest))
+        assertThatThrownBy(() -> authController.loginUser(loginRequest, httpRequestMock))
                 .isInstanceOf(BadCredentialsException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("refreshTokens should return status 200 OK and rotated tokens when refresh token is valid")
+    void refreshTokens_shouldReturnOkAndTokens_whenRefreshTokenIsValid() {
+
+        var refreshRequest = new RefreshTokenRequest("oldRefresh");
+
+        given(authServiceMock.refreshTokens("oldRefresh")).willReturn(new AuthTokens("a.valid.jwt", "newRefresh"));
+
+        ResponseEntity<RefreshTokenResponse> responseEntity = authController.refreshTokens(refreshRequest, httpRequestMock);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(responseEntity.getBody()).isNotNull();
+        assertThat(responseEntity.getBody().token()).isEqualTo("a.valid.jwt");
+        assertThat(responseEntity.getBody().refreshToken()).isEqualTo("newRefresh");
+    }
+
+    @Test
+    @DisplayName("logoutUser should return status 204 No Content and revoke the bearer and refresh tokens")
+    void logoutUser_shouldReturnNoContent_andRevokeTokens() {
+
+        ResponseEntity<Void> responseEntity = authController.logoutUser(
+                "Bearer a.valid.jwt",
+                new RefreshTokenRequest("refresh"));
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(authServiceMock).logoutUser("a.valid.jwt", "refresh");
+    }
+
+    @Test
+    @DisplayName("logoutAllSessions should return status 204 No Content and end every session of the bearer token owner")
+    void logoutAllSessions_shouldReturnNoContent_andEndAllSessions() {
+
+        ResponseEntity<Void> responseEntity = authController.logoutAllSessions("Bearer a.valid.jwt");
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        verify(authServiceMock).logoutAllSessions("a.valid.jwt");
+    }
+
+    @Test
+    @DisplayName("loginUser should not authenticate when the rate limiter rejects the request")
+    void loginUser_shouldNotAuthenticate_whenRateLimitIsExceeded() {
+
+        var loginRequest = new LoginUserRequest("teste@email.com", "password123");
+
+        given(httpRequestMock.getRemoteAddr()).willReturn("10.0.0.1");
+        willThrow(new RateLimitExceededException(5, 10))
+                .given(authRateLimiterMock).check("login", "10.0.0.1", "teste@email.com");
+
+        assertThatThrownBy(() -> authController.loginUser(loginRequest, httpRequestMock))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        verify(authServiceMock, never()).loginUser(any(), any());
+    }
+}
@@ -1,26 +1,42 @@
 package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
 
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerCount;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.domain.model.customer.ICustomerApplicationService;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.CursorPageResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.SlicePageResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.TotalMode;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.request.DeleteCustomersRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.request.RegisterCustomerRequest;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.request.UpdateCustomerRequest;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.DeleteCustomersResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.GetCustomerResponse;
 import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.RegisterCustomerResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.CustomerCursorCodec;
 import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.CustomerDtoMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +54,9 @@ class CustomerControllerTest {
     @Mock
     private CustomerDtoMapper customerDtoMapperMock;
 
+    @Spy
+    private CustomerCursorCodec customerCursorCodec = new CustomerCursorCodec();
+
     @InjectMocks
     private CustomerController customerController;
 
@@ -48,7 +67,7 @@ class CustomerControllerTest {
         var requestDto = new RegisterCustomerRequest(
                 "John Doe",
                 "johndoe@email.com",
-                "123.456.789-00",
+                "123.456.789-09",
                 "11987654321",
                 LocalDate.now().minusYears(20)
         );
@@ -58,7 +77,7 @@ class CustomerControllerTest {
                 UUID.randomUUID(),
                 "John Doe",
                 "johndoe@email.com",
-                "123.456.789-00",
+                "123.456.789-09",
                 "11987654321",
                 LocalDate.now().minusYears(20)
         );
@@ -73,43 +92,43 @@ class CustomerControllerTest {
     }
 
     @Test
-    @DisplayName("findAll should return status 200 OK and a mapped page of customers")
+    @DisplayName("findAll should return status 200 OK and a mapped page of customer summaries")
     void findAll_shouldReturnOkAndPage_whenCalled() {
 
         Pageable pageable = Pageable.unpaged();
-        Page<Customer> customerPage = new PageImpl<>(List.of(mock(Customer.class)));
+        Page<CustomerSummary> summaryPage = new PageImpl<>(List.of(mock(CustomerSummary.class)));
 
-        given(customerServiceMock.findAll(pageable)).willReturn(customerPage);
-        given(customerDtoMapperMock.toCustomerGetResponse(any(Customer.class))).willReturn(mock(GetCustomerResponse.class));
+        given(customerServiceMock.findAllSummaries(pageable)).willReturn(summaryPage);
+        given(customerDtoMapperMock.toCustomerGetResponse(any(CustomerSummary.class))).willReturn(mock(GetCustomerResponse.class));
 
         ResponseEntity<Page<GetCustomerResponse>> response = customerController.findAll(null, pageable);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getTotalElements()).isEqualTo(1);
-        verify(customerServiceMock, never()).searchByName(anyString(), any(Pageable.class));
+        verify(customerServiceMock, never()).searchSummariesByName(anyString(), any(Pageable.class));
     }
 
     @Test
-    @DisplayName("findAll should call searchByName service method when name parameter is provided")
+    @DisplayName("findAll should call searchSummariesByName service method when name parameter is provided")
     void findAll_callsSearchByName_whenNameParameterIsProvided() {
 
         String nameToSearch = "John Doe";
         Pageable pageable = Pageable.unpaged();
 
-        Page<Customer> customerPage = new PageImpl<>(List.of(mock(Customer.class)));
+        Page<CustomerSummary> summaryPage = new PageImpl<>(List.of(mock(CustomerSummary.class)));
 
-        given(customerServiceMock.searchByName(nameToSearch, pageable)).willReturn(customerPage);
+        given(customerServiceMock.searchSummariesByName(nameToSearch, pageable)).willReturn(summaryPage);
 
-        given(customerDtoMapperMock.toCustomerGetResponse(any(Customer.class))).willReturn(mock(GetCustomerResponse.class));
+        given(customerDtoMapperMock.toCustomerGetResponse(any(CustomerSummary.class))).willReturn(mock(GetCustomerResponse.class));
 
         ResponseEntity<Page<GetCustomerResponse>> response = customerController.findAll(nameToSearch, pageable);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
 
-        verify(customerServiceMock, times(1)).searchByName(nameToSearch, pageable);
-        verify(customerServiceMock, never()).findAll(any(Pageable.class));
+        verify(customerServiceMock, times(1)).searchSummariesByName(nameToSearch, pageable);
+        verify(customerServiceMock, never()).findAllSummaries(any(Pageable.class));
     }
 
     @Test
@@ -117,18 +136,25 @@ class CustomerControllerTest {
     void findById_shouldReturnOkAndDto_whenCustomerExists() {
 
         UUID customerId = UUID.randomUUID();
-        Customer customerDomain = mock(Customer.class);
+        CustomerSummary customerSummary = new CustomerSummary(
+                customerId,
+                "John Doe",
+                "johndoe@email.com",
+                12345678909L,
+                5511987654321L,
+                20
+        );
         var responseDto = new GetCustomerResponse(
                 customerId,
                 "John Doe",
                 "johndoe@email.com",
-                "123.456.789-00",
+                "123.456.789-09",
                 "11987654321",
                 20
         );
 
-        given(customerServiceMock.findById(customerId)).willReturn(customerDomain);
-        given(customerDtoMapperMock.toCustomerGetResponse(customerDomain)).willReturn(responseDto);
+        given(customerServiceMock.findSummaryById(customerId)).willReturn(customerSummary);
+        given(customerDtoMapperMock.toCustomerGetResponse(customerSummary)).willReturn(responseDto);
 
         ResponseEntity<GetCustomerResponse> response = customerController.findById(customerId);
 
@@ -167,4 +193,125 @@ class CustomerControllerTest {
         verify(customerServiceMock).deleteById(customerId);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("deleteAllById should return status 200 OK with the requested and deleted counts")
+    void deleteAllById_shouldReturnOkAndCounts_whenSuccessful() {
+
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        given(customerServiceMock.deleteAllById(ids)).willReturn(2);
+
+        ResponseEntity<DeleteCustomersResponse> response =
+                customerController.deleteAllById(new DeleteCustomersRequest(ids));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new DeleteCustomersResponse(3, 2));
+    }
+
+    @Test
+    @DisplayName("scroll should return a next cursor encoding the last sort key when the window has more rows")
+    void scroll_returnsNextCursor_whenWindowHasNext() {
+
+        CustomerSummary customerSummary = mock(CustomerSummary.class);
+        UUID lastId = UUID.randomUUID();
+        Sort expectedSort = Sort.by(Sort.Order.asc("name"), Sort.Order.asc("customerId"));
+        Window<CustomerSummary> window = Window.from(List.of(customerSummary),
+                index -> ScrollPosition.forward(Map.of("name", "John Doe", "customerId", lastId)), true);
+
+        given(customerServiceMock.scrollSummaries(null, ScrollPosition.keyset(), expectedSort, 1)).willReturn(window);
+        given(customerDtoMapperMock.toCustomerGetResponse(customerSummary)).willReturn(mock(GetCustomerResponse.class));
+
+        ResponseEntity<CursorPageResponse<GetCustomerResponse>> response =
+                customerController.scroll(null, "", 1, Sort.by("name"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().size()).isEqualTo(1);
+
+        CustomerCursorCodec.Cursor next = customerCursorCodec.decode(response.getBody().next());
+        assertThat(next.sort()).isEqualTo(expectedSort);
+        assertThat(((KeysetScrollPosition) next.position()).getKeys())
+                .containsEntry("name", "John Doe")
+                .containsEntry("customerId", lastId);
+    }
+
+    @Test
+    @DisplayName("scroll should return a null next cursor when the window is the last one")
+    void scroll_returnsNullNext_whenWindowIsLast() {
+
+        given(customerServiceMock.scrollSummaries(eq("John"), any(ScrollPosition.class), any(Sort.class), eq(20)))
+                .willReturn(Window.from(List.of(), index -> ScrollPosition.keyset(), false));
+
+        ResponseEntity<CursorPageResponse<GetCustomerResponse>> response =
+                customerController.scroll("John", "", 20, Sort.unsorted());
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().next()).isNull();
+        assertThat(response.getBody().content()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("list should return a slice without total when total mode is NONE")
+    void list_returnsSliceWithoutTotal_whenTotalModeIsNone() {
+
+        Pageable pageable = PageRequest.of(0, 1);
+        given(customerServiceMock.findAllSummariesSlice(pageable))
+                .willReturn(new SliceImpl<>(List.of(mock(CustomerSummary.class)), pageable, true));
+        given(customerDtoMapperMock.toCustomerGetResponse(any(CustomerSummary.class)))
+                .willReturn(mock(GetCustomerResponse.class));
+
+        ResponseEntity<SlicePageResponse<GetCustomerResponse>> response =
+                customerController.list(null, TotalMode.NONE, pageable);
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().hasNext()).isTrue();
+        assertThat(response.getBody().totalElements()).isNull();
+        assertThat(response.getBody().totalMode()).isEqualTo(TotalMode.NONE);
+        verify(customerServiceMock, never()).count(any(), anyBoolean());
+        verify(customerServiceMock, never()).findAllSummaries(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("list should report the mode of the count returned by the service when total mode is APPROXIMATE")
+    void list_reportsCountMode_whenTotalModeIsApproximate() {
+
+        Pageable pageable = PageRequest.of(0, 10);
+        given(customerServiceMock.searchSummariesSliceByName("John", pageable))
+                .willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(customerServiceMock.count("John", true)).willReturn(CustomerCount.approximate(1500));
+
+        ResponseEntity<SlicePageResponse<GetCustomerResponse>> approximate =
+                customerController.list("John", TotalMode.APPROXIMATE, pageable);
+
+        given(customerServiceMock.count("John", true)).willReturn(CustomerCount.exact(3));
+
+        ResponseEntity<SlicePageResponse<GetCustomerResponse>> fallback =
+                customerController.list("John", TotalMode.APPROXIMATE, pageable);
+
+        assertThat(approximate.getBody()).isNotNull();
+        assertThat(approximate.getBody().totalElements()).isEqualTo(1500);
+        assertThat(approximate.getBody().totalMode()).isEqualTo(TotalMode.APPROXIMATE);
+        assertThat(fallback.getBody()).isNotNull();
+        assertThat(fallback.getBody().totalElements()).isEqualTo(3);
+        assertThat(fallback.getBody().totalMode()).isEqualTo(TotalMode.EXACT);
+    }
+
+    @Test
+    @DisplayName("list should use the counted summary page when total mode is EXACT")
+    void list_usesCountedSummaryPage_whenTotalModeIsExact() {
+
+        Pageable pageable = PageRequest.of(0, 1);
+        given(customerServiceMock.findAllSummaries(pageable))
+                .willReturn(new PageImpl<>(List.of(mock(CustomerSummary.class)), pageable, 42));
+        given(customerDtoMapperMock.toCustomerGetResponse(any(CustomerSummary.class)))
+                .willReturn(mock(GetCustomerResponse.class));
+
+        ResponseEntity<SlicePageResponse<GetCustomerResponse>> response =
+                customerController.list(null, TotalMode.EXACT, pageable);
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().totalElements()).isEqualTo(42);
+        assertThat(response.getBody().hasNext()).isTrue();
+        assertThat(response.getBody().totalMode()).isEqualTo(TotalMode.EXACT);
+        verify(customerServiceMock, never()).findAllSummariesSlice(any(Pageable.class));
+    }
+}
@@ -0,0 +1,93 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
+
+import com.raffasdev.neocustomers.domain.model.customer.CustomerLoadResult;
+import com.raffasdev.neocustomers.domain.model.customer.ICustomerBulkCopyService;
+import com.raffasdev.neocustomers.infrastructure.web.rest.dto.customer.response.LoadCustomersResponse;
+import com.raffasdev.neocustomers.infrastructure.web.rest.handler.RestExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerCopyControllerTest {
+
+    @Mock
+    private ICustomerBulkCopyService customerBulkCopyServiceMock;
+
+    @InjectMocks
+    private CustomerCopyController customerCopyController;
+
+    @Test
+    @DisplayName("load should return the copied and merged row counts")
+    void load_returnsCopiedAndMergedCounts() {
+
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        given(customerBulkCopyServiceMock.load(body)).willReturn(new CustomerLoadResult(10, 8));
+
+        ResponseEntity<LoadCustomersResponse> response = customerCopyController.load(body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new LoadCustomersResponse(10, 8));
+    }
+
+    @Test
+    @DisplayName("export should stream the CSV into the response as an attachment")
+    void export_streamsCsvAsAttachment() throws Exception {
+
+        given(customerBulkCopyServiceMock.isAvailable()).willReturn(true);
+        given(customerBulkCopyServiceMock.export(any(OutputStream.class))).willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("customer_id,name\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        customerCopyController.export(response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).startsWith("text/csv");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("customers.csv");
+        assertThat(response.getContentAsString()).isEqualTo("customer_id,name\n");
+    }
+
+    @Test
+    @DisplayName("export should respond 501 with ProblemDetails and no CSV headers when bulk copy is unavailable")
+    void export_respondsNotImplemented_whenBulkCopyIsUnavailable() throws Exception {
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(customerCopyController)
+                .setControllerAdvice(new RestExceptionHandler())
+                .build();
+        given(customerBulkCopyServiceMock.isAvailable()).willReturn(false);
+
+        mockMvc.perform(get("/customers/export"))
+                .andExpect(status().isNotImplemented())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION))
+                .andExpect(jsonPath("$.status").value(501))
+                .andExpect(jsonPath("$.title").value("Not Implemented Exception: Bulk copy unavailable"));
+
+        verify(customerBulkCopyServiceMock, never()).export(any(OutputStream.class));
+    }
+}
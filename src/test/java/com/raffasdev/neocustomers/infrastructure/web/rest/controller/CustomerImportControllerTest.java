@@ -0,0 +1,159 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raffasdev.neocustomers.application.exception.InvalidImportFileException;
+import com.raffasdev.neocustomers.application.service.CustomerImportService;
+import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportResult;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportRow;
+import com.raffasdev.neocustomers.domain.model.customer.ICustomerImportService;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerBatchWriter;
+import com.raffasdev.neocustomers.infrastructure.persistence.jpa.repository.customer.CustomerNameIndex;
+import com.raffasdev.neocustomers.infrastructure.web.rest.mapper.CustomerDtoMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerImportControllerTest {
+
+    @Mock
+    private ICustomerImportService customerImportServiceMock;
+
+    @Mock
+    private CustomerBatchWriter customerBatchWriterMock;
+
+    @Mock
+    private CustomerNameIndex customerNameIndexMock;
+
+    @Mock
+    private PlatformTransactionManager transactionManagerMock;
+
+    private CustomerImportController customerImportController;
+
+    @BeforeEach
+    void setUp() {
+        customerImportController = new CustomerImportController(customerImportServiceMock, new CustomerDtoMapper(),
+                new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("importCustomers should stream one NDJSON result per row read from a CSV body")
+    @SuppressWarnings("unchecked")
+    void importCustomers_streamsOneResultPerRow_whenBodyIsCsv() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        willAnswer(invocation -> {
+            Iterator<CustomerImportRow> rows = invocation.getArgument(0);
+            Consumer<List<CustomerImportResult>> results = invocation.getArgument(1);
+
+            results.accept(List.of(
+                    CustomerImportResult.created(rows.next().line(), id),
+                    CustomerImportResult.invalid(rows.next().line(), "Invalid CPF number: 1")));
+            assertThat(rows.hasNext()).isFalse();
+            return null;
+        }).given(customerImportServiceMock).importCustomers(any(Iterator.class), any(Consumer.class));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        customerImportController.importCustomers(MediaType.parseMediaType("text/csv"), this.body("""
+                name,email,cpf,phone,birthDate
+                Ana,ana@email.com,111.222.333-96,11911112222,2000-01-20
+                Bia,bia@email.com,1,11911112222,2000-01-20
+                """), response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(response.getContentAsString().lines().toList()).isEqualTo(List.of(
+                "{\"line\":2,\"status\":\"CREATED\",\"id\":\"" + id + "\"}",
+                "{\"line\":3,\"status\":\"INVALID\",\"error\":\"Invalid CPF number: 1\"}"
+        ));
+    }
+
+    @Test
+    @DisplayName("importCustomers should flush each batch's results before reading the next batch")
+    void importCustomers_flushesEachBatch_beforeReadingTheNextOne() throws Exception {
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        CustomerImportService customerImportService = new CustomerImportService(
+                customerBatchWriterMock, customerNameIndexMock, transactionManagerMock, 2);
+        MockHttpServletResponse[] servletResponse = new MockHttpServletResponse[1];
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+                        new CustomerImportController(customerImportService, new CustomerDtoMapper(), objectMapper))
+                .addFilter((request, response, chain) -> {
+                    servletResponse[0] = (MockHttpServletResponse) response;
+                    chain.doFilter(request, response);
+                })
+                .build();
+        List<List<String>> flushedBeforeEachBatch = new ArrayList<>();
+        given(customerBatchWriterMock.insertAll(anyList())).willAnswer(invocation -> {
+            flushedBeforeEachBatch.add(servletResponse[0].getContentAsString().lines().toList());
+            return new int[invocation.<List<Customer>>getArgument(0).size()];
+        });
+
+        String body = """
+                {"name":"Ana","email":"ana@email.com","cpf":"111.222.333-96","phone":"11911112222","birthDate":"2000-01-20"}
+                {"name":"Bia","email":"bia@email.com","cpf":"1","phone":"11911112222","birthDate":"2000-01-20"}
+                {"name":"Carla","email":"carla@email.com","cpf":"22233344405","phone":"11911112222","birthDate":"2000-01-20"}
+                """;
+
+        mockMvc.perform(post("/customers/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        assertThat(flushedBeforeEachBatch).hasSize(2);
+        assertThat(flushedBeforeEachBatch.get(0)).isEmpty();
+        assertThat(flushedBeforeEachBatch.get(1)).containsExactly(
+                "{\"line\":1,\"status\":\"DUPLICATE\",\"error\":\"Email or CPF already exists\"}",
+                "{\"line\":2,\"status\":\"INVALID\",\"error\":\"Invalid CPF number: 1\"}");
+        assertThat(servletResponse[0].getContentAsString().lines())
+                .hasSize(3)
+                .last().isEqualTo("{\"line\":3,\"status\":\"DUPLICATE\",\"error\":\"Email or CPF already exists\"}");
+    }
+
+    @Test
+    @DisplayName("importCustomers should reject a CSV body without the expected header before importing")
+    void importCustomers_throwsInvalidImportFileException_whenCsvHeaderIsInvalid() {
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> customerImportController.importCustomers(MediaType.parseMediaType("text/csv"),
+                this.body("nome,email\nAna,ana@email.com\n"), response))
+                .isInstanceOf(InvalidImportFileException.class);
+        verifyNoInteractions(customerImportServiceMock);
+    }
+
+    private InputStream body(String content) {
+
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -58,7 +58,7 @@ class RestExceptionHandlerTest {
     @Test
     @DisplayName("handleCPFAlreadyExistsException should return 409 Conflict")
     void handleCPFAlreadyExistsException_shouldReturnConflict() {
-        var exception = new CPFAlreadyExistsException("123.456.789-00");
+        var exception = new CPFAlreadyExistsException("123.456.789-09");
         ResponseEntity<Object> responseEntity = restExceptionHandler.handleCPFAlreadyExistsException(exception, webRequestMock);
         ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
 
@@ -117,6 +117,66 @@ class RestExceptionHandlerTest {
         assertThat(problemDetails.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
     }
 
+    @Test
+    @DisplayName("handleInvalidRefreshTokenException should return 401 Unauthorized")
+    void handleInvalidRefreshTokenException_shouldReturnUnauthorized() {
+        var exception = new InvalidRefreshTokenException();
+        ResponseEntity<Object> responseEntity = restExceptionHandler.handleInvalidRefreshTokenException(exception, webRequestMock);
+        ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(problemDetails).isNotNull();
+        assertThat(problemDetails.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    @DisplayName("handleInvalidAccessTokenException should return 401 Unauthorized")
+    void handleInvalidAccessTokenException_shouldReturnUnauthorized() {
+        var exception = new InvalidAccessTokenException();
+        ResponseEntity<Object> responseEntity = restExceptionHandler.handleInvalidAccessTokenException(exception, webRequestMock);
+        ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(problemDetails).isNotNull();
+        assertThat(problemDetails.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    @DisplayName("handleInvalidCursorException should return 400 Bad Request")
+    void handleInvalidCursorException_shouldReturnBadRequest() {
+        var exception = new InvalidCursorException("Cursor is malformed");
+        ResponseEntity<Object> responseEntity = restExceptionHandler.handleInvalidCursorException(exception, webRequestMock);
+        ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(problemDetails).isNotNull();
+        assertThat(problemDetails.getDetails()).isEqualTo("Cursor is malformed");
+    }
+
+    @Test
+    @DisplayName("handleInvalidImportFileException should return 400 Bad Request")
+    void handleInvalidImportFileException_shouldReturnBadRequest() {
+        var exception = new InvalidImportFileException("CSV header is missing or too long");
+        ResponseEntity<Object> responseEntity = restExceptionHandler.handleInvalidImportFileException(exception, webRequestMock);
+        ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(problemDetails).isNotNull();
+        assertThat(problemDetails.getDetails()).isEqualTo("CSV header is missing or too long");
+    }
+
+    @Test
+    @DisplayName("handleBulkCopyUnavailableException should return 501 Not Implemented")
+    void handleBulkCopyUnavailableException_shouldReturnNotImplemented() {
+        var exception = new BulkCopyUnavailableException("Bulk copy requires a PostgreSQL database");
+        ResponseEntity<Object> responseEntity = restExceptionHandler.handleBulkCopyUnavailableException(exception, webRequestMock);
+        ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+        assertThat(problemDetails).isNotNull();
+        assertThat(problemDetails.getDetails()).isEqualTo("Bulk copy requires a PostgreSQL database");
+    }
+
     @Test
     @DisplayName("handleInvalidBirthDateException should return 400 Bad Request")
     void handleInvalidBirthDateException_shouldReturnBadRequest() {
@@ -206,4 +266,35 @@ class RestExceptionHandlerTest {
         assertThat(problemDetails.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
         assertThat(problemDetails.getTitle()).contains("Invalid Phone");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("handlePasswordHashingUnavailableException should return 503 Service Unavailable with Retry-After")
+    void handlePasswordHashingUnavailableException_shouldReturnServiceUnavailable() {
+        var exception = new PasswordHashingUnavailableException(3);
+        ResponseEntity<Object> responseEntity =
+                restExceptionHandler.handlePasswordHashingUnavailableException(exception, webRequestMock);
+        ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(problemDetails).isNotNull();
+        assertThat(problemDetails.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @Test
+    @DisplayName("handleRateLimitExceededException should return 429 Too Many Requests with rate limit headers")
+    void handleRateLimitExceededException_shouldReturnTooManyRequests() {
+        var exception = new RateLimitExceededException(5, 12);
+        ResponseEntity<Object> responseEntity =
+                restExceptionHandler.handleRateLimitExceededException(exception, webRequestMock);
+        ProblemDetails problemDetails = (ProblemDetails) responseEntity.getBody();
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("12");
+        assertThat(responseEntity.getHeaders().getFirst("RateLimit-Limit")).isEqualTo("5");
+        assertThat(responseEntity.getHeaders().getFirst("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(problemDetails).isNotNull();
+        assertThat(problemDetails.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+}
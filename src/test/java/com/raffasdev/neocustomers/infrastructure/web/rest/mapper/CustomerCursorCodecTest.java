@@ -0,0 +1,65 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.mapper;
+
+import com.raffasdev.neocustomers.application.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerCursorCodecTest {
+
+    private final CustomerCursorCodec customerCursorCodec = new CustomerCursorCodec();
+
+    @Test
+    @DisplayName("toKeysetSort should append customerId as a tie breaker when it is not requested")
+    void toKeysetSort_appendsIdTieBreaker_whenIdIsNotRequested() {
+
+        Sort sort = customerCursorCodec.toKeysetSort(Sort.by("birthDate").descending());
+
+        assertThat(sort).isEqualTo(Sort.by(Sort.Order.desc("birthDate"), Sort.Order.asc("customerId")));
+    }
+
+    @Test
+    @DisplayName("toKeysetSort should throw InvalidCursorException when the property cannot be used as a keyset")
+    void toKeysetSort_throwsInvalidCursorException_whenPropertyIsNotSortable() {
+
+        assertThatThrownBy(() -> customerCursorCodec.toKeysetSort(Sort.by("phone")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("decode should restore the sort and typed keys written by encode")
+    void decode_restoresSortAndKeys_whenCursorWasEncoded() {
+
+        UUID id = UUID.randomUUID();
+        Sort sort = customerCursorCodec.toKeysetSort(Sort.by(Sort.Order.desc("birthDate"), Sort.Order.asc("name")));
+        ScrollPosition position = ScrollPosition.forward(
+                Map.of("birthDate", LocalDate.of(2000, 1, 31), "name", "Ana.Souza:1,2", "customerId", id));
+
+        CustomerCursorCodec.Cursor cursor = customerCursorCodec.decode(customerCursorCodec.encode(sort, position));
+
+        assertThat(cursor.sort()).isEqualTo(sort);
+        assertThat(((KeysetScrollPosition) cursor.position()).getKeys())
+                .containsEntry("birthDate", LocalDate.of(2000, 1, 31))
+                .containsEntry("name", "Ana.Souza:1,2")
+                .containsEntry("customerId", id);
+    }
+
+    @Test
+    @DisplayName("decode should throw InvalidCursorException when the cursor is malformed")
+    void decode_throwsInvalidCursorException_whenCursorIsMalformed() {
+
+        assertThatThrownBy(() -> customerCursorCodec.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> customerCursorCodec.decode("!!!.???"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
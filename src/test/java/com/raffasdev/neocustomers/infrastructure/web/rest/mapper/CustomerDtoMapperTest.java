@@ -1,6 +1,7 @@
 package com.raffasdev.neocustomers.infrastructure.web.rest.mapper;
 
 import com.raffasdev.neocustomers.domain.model.customer.Customer;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerSummary;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.BirthDate;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.CPF;
 import com.raffasdev.neocustomers.domain.model.customer.valueObject.Phone;
@@ -32,7 +33,7 @@ class CustomerDtoMapperTest {
                 EntityId.newId(),
                 Name.newName("username"),
                 Email.newEmail("teste@email.com"),
-                CPF.newCPF("123.456.789-00"),
+                CPF.newCPF("123.456.789-09"),
                 Phone.newPhone("11987654321"),
                 BirthDate.newBirthDate(LocalDate.now().minusYears(20))
         );
@@ -48,8 +49,8 @@ class CustomerDtoMapperTest {
         assertThat(response.id()).isEqualTo(customer.getId().getValue());
         assertThat(response.name()).isEqualTo(customer.getName());
         assertThat(response.email()).isEqualTo(customer.getEmail());
-        assertThat(response.cpf()).isEqualTo(customer.getCPF());
-        assertThat(response.phone()).isEqualTo(customer.getPhone());
+        assertThat(response.cpf()).isEqualTo("123.456.789-09");
+        assertThat(response.phone()).isEqualTo("+5511987654321");
         assertThat(response.birthDate()).isEqualTo(customer.getBirthDate());
     }
 
@@ -63,8 +64,34 @@ class CustomerDtoMapperTest {
         assertThat(response.id()).isEqualTo(customer.getId().getValue());
         assertThat(response.name()).isEqualTo(customer.getName());
         assertThat(response.email()).isEqualTo(customer.getEmail());
-        assertThat(response.cpf()).isEqualTo(customer.getCPF());
-        assertThat(response.phone()).isEqualTo(customer.getPhone());
+        assertThat(response.cpf()).isEqualTo("123.456.789-09");
+        assertThat(response.phone()).isEqualTo("+5511987654321");
         assertThat(response.age()).isEqualTo(customer.getAge());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("toCustomerGetResponse should map a CustomerSummary without touching the domain model")
+    void toCustomerGetResponse_shouldMapSummaryFields_whenSuccessful() {
+
+        CustomerSummary summary = new CustomerSummary(customer.getId().getValue(), "username", "teste@email.com",
+                12345678909L, 5511987654321L, 20);
+
+        GetCustomerResponse response = customerDtoMapper.toCustomerGetResponse(summary);
+
+        assertThat(response).isEqualTo(new GetCustomerResponse(customer.getId().getValue(), "username",
+                "teste@email.com", "123.456.789-09", "+5511987654321", 20));
+    }
+
+    @Test
+    @DisplayName("toCustomerGetResponse should keep the leading zeros of the CPF")
+    void toCustomerGetResponse_shouldPadCpfWithZeros_whenCpfHasLeadingZeros() {
+
+        CustomerSummary summary = new CustomerSummary(customer.getId().getValue(), "username", "teste@email.com",
+                191L, 551133334444L, 20);
+
+        GetCustomerResponse response = customerDtoMapper.toCustomerGetResponse(summary);
+
+        assertThat(response.cpf()).isEqualTo("000.000.001-91");
+        assertThat(response.phone()).isEqualTo("+551133334444");
+    }
+}
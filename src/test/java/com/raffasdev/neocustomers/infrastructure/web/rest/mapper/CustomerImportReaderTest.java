@@ -0,0 +1,114 @@
+package com.raffasdev.neocustomers.infrastructure.web.rest.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raffasdev.neocustomers.application.exception.InvalidImportFileException;
+import com.raffasdev.neocustomers.domain.model.customer.CustomerImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("ndjson should read one row per line, skip blank lines and keep the file line numbers")
+    void ndjson_readsOneRowPerLine_keepingLineNumbers() {
+
+        String body = """
+                {"name":"Ana","email":"ana@email.com","cpf":"111.222.333-96","phone":"11911112222","birthDate":"2000-01-20"}
+
+                {"name":"Bia","email":"bia@email.com","cpf":"22233344405","phone":null}
+                """;
+
+        List<CustomerImportRow> rows = this.readAll(CustomerImportReader.ndjson(new StringReader(body), objectMapper));
+
+        assertThat(rows).containsExactly(
+                CustomerImportRow.of(1, "Ana", "ana@email.com", "111.222.333-96", "11911112222", "2000-01-20"),
+                CustomerImportRow.of(3, "Bia", "bia@email.com", "22233344405", null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("ndjson should report malformed lines and keep reading the next ones")
+    void ndjson_reportsMalformedLines_andKeepsReading() {
+
+        String body = "{\"name\":\"Ana\"\n[1,2]\n{\"name\":\"Bia\"}\n";
+
+        List<CustomerImportRow> rows = this.readAll(CustomerImportReader.ndjson(new StringReader(body), objectMapper));
+
+        assertThat(rows).extracting(CustomerImportRow::line).containsExactly(1L, 2L, 3L);
+        assertThat(rows.get(0).error()).isEqualTo("Malformed JSON");
+        assertThat(rows.get(1).error()).isEqualTo("Line is not a JSON object");
+        assertThat(rows.get(2).name()).isEqualTo("Bia");
+        assertThat(rows.get(2).error()).isNull();
+    }
+
+    @Test
+    @DisplayName("ndjson should reject lines longer than the limit without buffering them")
+    void ndjson_rejectsLinesLongerThanTheLimit() {
+
+        String body = "{\"name\":\"" + "a".repeat(CustomerImportReader.MAX_LINE_LENGTH * 4) + "\"}\r\n{\"name\":\"Bia\"}";
+
+        List<CustomerImportRow> rows = this.readAll(CustomerImportReader.ndjson(new StringReader(body), objectMapper));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).startsWith("Line exceeds");
+        assertThat(rows.get(1)).isEqualTo(CustomerImportRow.of(2, "Bia", null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("csv should map the columns by header name in any order and handle quoted fields")
+    void csv_mapsColumnsByHeader_andHandlesQuotedFields() {
+
+        String body = "email,Name,CPF,phone,birth_date\n"
+                + "ana@email.com,\"Ana, \"\"A\"\"\",111.222.333-96,11911112222,2000-01-20\r\n"
+                + "bia@email.com,Bia,22233344405\n";
+
+        List<CustomerImportRow> rows = this.readAll(CustomerImportReader.csv(new StringReader(body)));
+
+        assertThat(rows).containsExactly(
+                CustomerImportRow.of(2, "Ana, \"A\"", "ana@email.com", "111.222.333-96", "11911112222", "2000-01-20"),
+                CustomerImportRow.of(3, "Bia", "bia@email.com", "22233344405", null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("csv should report rows with an unterminated quoted field")
+    void csv_reportsUnterminatedQuotedField() {
+
+        String body = "name,email,cpf,phone,birthDate\n\"Ana,ana@email.com,111.222.333-96,11911112222,2000-01-20\n";
+
+        List<CustomerImportRow> rows = this.readAll(CustomerImportReader.csv(new StringReader(body)));
+
+        assertThat(rows).containsExactly(CustomerImportRow.malformed(2, "Unterminated quoted field"));
+    }
+
+    @Test
+    @DisplayName("csv should throw InvalidImportFileException when the header is missing a column")
+    void csv_throwsInvalidImportFileException_whenHeaderIsMissingAColumn() {
+
+        Reader body = new StringReader("name,email,cpf,phone\nAna,ana@email.com,111.222.333-96,11911112222\n");
+
+        assertThatThrownBy(() -> CustomerImportReader.csv(body))
+                .isInstanceOf(InvalidImportFileException.class);
+        assertThatThrownBy(() -> CustomerImportReader.csv(new StringReader("")))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+
+    private List<CustomerImportRow> readAll(Iterator<CustomerImportRow> rows) {
+
+        List<CustomerImportRow> read = new ArrayList<>();
+        rows.forEachRemaining(read::add);
+
+        return read;
+    }
+}